@@ -18,6 +18,23 @@ plugins {
     id("io.freefair.lombok") version "8.14.2"
     id("com.github.ben-manes.versions") version "0.52.0"
     id("org.sonarqube") version "6.2.0.5505"
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+sourceSets {
+    create("loadTest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations {
+    named("loadTestImplementation") {
+        extendsFrom(configurations.implementation.get())
+    }
+    named("loadTestRuntimeOnly") {
+        extendsFrom(configurations.runtimeOnly.get())
+    }
 }
 
 dependencies {
@@ -26,12 +43,18 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-oauth2-resource-server")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
 	implementation("org.springframework.boot:spring-boot-devtools")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.13")
     implementation("org.mapstruct:mapstruct:1.6.3")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("org.postgresql:postgresql")
+    implementation("org.bouncycastle:bcprov-jdk18on:1.81")
 
     runtimeOnly("com.h2database:h2")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+    runtimeOnly("org.hibernate.orm:hibernate-micrometer")
 
     annotationProcessor("org.mapstruct:mapstruct-processor:1.6.3")
 
@@ -48,6 +71,51 @@ tasks.test {
     finalizedBy(tasks.jacocoTestReport)
 }
 
+tasks.register<JavaExec>("virtualThreadsBenchmark") {
+    group = "verification"
+    description = "Compares platform and virtual request threads under injected database latency."
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass = "hexlet.code.loadtest.VirtualThreadsBenchmark"
+    listOf("concurrency", "duration", "warmup", "dbLatencyMs", "poolSize", "tasks").forEach { name ->
+        project.findProperty("loadtest.$name")?.let { systemProperty("loadtest.$name", it) }
+    }
+    systemProperty("loadtest.output", layout.buildDirectory.file("reports/loadtest/virtual-threads.csv").get().asFile)
+}
+
+tasks.register<JavaExec>("dataPathBenchmark") {
+    group = "verification"
+    description = "Measures search, label filter, batch create and bulk update paths on a seeded H2 database."
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass = "hexlet.code.loadtest.DataPathBenchmark"
+    val forwarded = listOf(
+        "tasks", "labels", "createItems", "bulkIterations", "iterations", "warmupIterations", "scenarios")
+    forwarded.forEach { name ->
+        project.findProperty("loadtest.$name")?.let { systemProperty("loadtest.$name", it) }
+    }
+    systemProperty("loadtest.output", layout.buildDirectory.file("reports/loadtest/data-paths.csv").get().asFile)
+}
+
+tasks.register<JavaExec>("capacityLoadTest") {
+    group = "verification"
+    description = "Seeds synthetic data and replays a mixed API workload at a target request rate."
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass = "hexlet.code.loadtest.CapacityLoadTest"
+    listOf(
+        "users", "statuses", "labels", "tasks", "rate", "maxInFlight", "duration", "warmup", "mix",
+        "virtualThreads", "datasourceUrl", "datasourceUsername", "datasourcePassword"
+    ).forEach { name ->
+        project.findProperty("loadtest.$name")?.let { systemProperty("loadtest.$name", it) }
+    }
+    systemProperty("loadtest.output", layout.buildDirectory.file("reports/loadtest/capacity.csv").get().asFile)
+}
+
+jmh {
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results-${project.version}.json")
+    profilers = listOf("gc")
+    project.findProperty("jmh.includes")?.let { includes = listOf(it.toString()) }
+}
+
 tasks.jacocoTestReport {
     dependsOn(tasks.test)
     reports {
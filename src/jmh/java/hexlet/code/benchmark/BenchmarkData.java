@@ -0,0 +1,80 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.Task.TaskResponseDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+final class BenchmarkData {
+    private static final int LABELS_PER_TASK = 3;
+    private static final String[] STATUSES = {"draft", "to_review", "to_be_fixed", "to_publish", "published"};
+
+    private BenchmarkData() {
+    }
+
+    static List<Task> tasks(int size) {
+        User assignee = new User();
+        assignee.setId(1L);
+        assignee.setEmail("hexlet@example.com");
+
+        List<TaskStatus> statuses = new ArrayList<>();
+        for (int i = 0; i < STATUSES.length; i++) {
+            TaskStatus status = new TaskStatus();
+            status.setId((long) i + 1);
+            status.setSlug(STATUSES[i]);
+            statuses.add(status);
+        }
+
+        List<Label> labels = new ArrayList<>();
+        for (long i = 1; i <= LABELS_PER_TASK * 2; i++) {
+            Label label = new Label();
+            label.setId(i);
+            label.setName("label-" + i);
+            labels.add(label);
+        }
+
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Task task = new Task();
+            task.setId((long) i + 1);
+            task.setVersion(0L);
+            task.setIndex(i);
+            task.setTitle("Task " + i);
+            task.setContent("Description of task " + i);
+            task.setCreatedAt(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+            task.setTaskStatus(statuses.get(i % statuses.size()));
+            task.setAssignee(i % 2 == 0 ? assignee : null);
+            Set<Label> taskLabels = new LinkedHashSet<>();
+            for (int j = 0; j < LABELS_PER_TASK; j++) {
+                taskLabels.add(labels.get((i + j) % labels.size()));
+            }
+            task.setLabels(taskLabels);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static List<TaskResponseDTO> taskResponses(int size) {
+        List<TaskResponseDTO> responses = new ArrayList<>(size);
+        for (Task task : tasks(size)) {
+            TaskResponseDTO response = new TaskResponseDTO();
+            response.setId(task.getId());
+            response.setIndex(task.getIndex());
+            response.setCreatedAt(task.getCreatedAt());
+            response.setAssigneeId(task.getAssignee() == null ? null : task.getAssignee().getId());
+            response.setTitle(task.getTitle());
+            response.setContent(task.getContent());
+            response.setStatus(task.getTaskStatus().getSlug());
+            response.setTaskLabelIds(Set.of(1L, 2L, 3L));
+            responses.add(response);
+        }
+        return responses;
+    }
+}
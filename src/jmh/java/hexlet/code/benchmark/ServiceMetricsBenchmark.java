@@ -0,0 +1,86 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.cache.SerializedList;
+import hexlet.code.dto.Label.LabelCreateDTO;
+import hexlet.code.dto.Label.LabelResponseDTO;
+import hexlet.code.dto.Label.LabelUpdateDTO;
+import hexlet.code.metrics.ServiceMetricsAspect;
+import hexlet.code.service.LabelService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceMetricsBenchmark {
+    private LabelService plainService;
+    private LabelService timedService;
+
+    @Setup
+    public void setUp() {
+        plainService = new StubLabelService();
+
+        AspectJProxyFactory timedFactory = new AspectJProxyFactory(new StubLabelService());
+        timedFactory.addAspect(new ServiceMetricsAspect(new SimpleMeterRegistry()));
+        timedService = timedFactory.getProxy();
+    }
+
+    @Benchmark
+    public LabelResponseDTO withoutMetrics() {
+        return plainService.getLabelById(1L);
+    }
+
+    @Benchmark
+    public LabelResponseDTO withMetrics() {
+        return timedService.getLabelById(1L);
+    }
+
+    private static final class StubLabelService implements LabelService {
+        private final LabelResponseDTO label = new LabelResponseDTO();
+
+        @Override
+        public List<LabelResponseDTO> getAllLabels() {
+            return List.of(label);
+        }
+
+        @Override
+        public SerializedList getLabelList() {
+            return null;
+        }
+
+        @Override
+        public LabelResponseDTO getLabelById(Long id) {
+            return label;
+        }
+
+        @Override
+        public LabelResponseDTO createLabel(LabelCreateDTO labelCreateDTO) {
+            return label;
+        }
+
+        @Override
+        public LabelResponseDTO updateLabel(Long id, LabelUpdateDTO labelUpdateDTO) {
+            return label;
+        }
+
+        @Override
+        public void deleteLabel(Long id) {
+        }
+    }
+}
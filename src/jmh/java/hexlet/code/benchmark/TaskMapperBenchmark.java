@@ -0,0 +1,45 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.Task.TaskResponseDTO;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Task;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private TaskMapper taskMapper;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        taskMapper = Mappers.getMapper(TaskMapper.class);
+        tasks = BenchmarkData.tasks(size);
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> toResponseDTOList() {
+        return taskMapper.toResponseDTOList(tasks);
+    }
+}
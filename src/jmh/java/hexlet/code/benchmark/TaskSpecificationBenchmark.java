@@ -0,0 +1,144 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.AppApplication;
+import hexlet.code.dto.Label.LabelCreateDTO;
+import hexlet.code.dto.Task.TaskCreateDTO;
+import hexlet.code.dto.Task.TaskFilterDTO;
+import hexlet.code.model.Task;
+import hexlet.code.service.LabelService;
+import hexlet.code.service.TaskService;
+import hexlet.code.specification.TaskSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSpecificationBenchmark {
+    private static final int TASKS = 10_000;
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final int LABELS_PER_TASK = 3;
+    private static final int PAGE_SIZE = 50;
+    private static final String[] STATUSES = {"draft", "to_review", "to_be_fixed", "to_publish", "published"};
+
+    @Param({"any", "all"})
+    private String labelMode;
+
+    @Param({"0", "5", "50"})
+    private int labelCount;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TaskFilterDTO filter;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AppApplication.class)
+            .properties(
+                "server.port=0",
+                "management.server.port=0",
+                "spring.main.banner-mode=off",
+                "spring.datasource.url=jdbc:h2:mem:jmh-specification;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN")
+            .run();
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+
+        List<Long> labelIds = seedLabels(context.getBean(LabelService.class));
+        seedTasks(context.getBean(TaskService.class), labelIds);
+        filter = new TaskFilterDTO();
+        filter.setTitleCont("Task");
+        filter.setAssigneeId(1L);
+        filter.setStatus("draft");
+        filter.setLabelIds(new LinkedHashSet<>(labelIds));
+        filter.setLabelMode(labelMode);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Specification<Task> buildSpecification() {
+        return TaskSpecification.buildSpecification(filter);
+    }
+
+    @Benchmark
+    public TypedQuery<Task> buildQuery() {
+        Specification<Task> specification = TaskSpecification.buildSpecification(filter);
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        query.where(specification.toPredicate(root, query, criteriaBuilder));
+        return entityManager.createQuery(query);
+    }
+
+    @Benchmark
+    public List<Task> executeQuery() {
+        List<Task> tasks = buildQuery().setMaxResults(PAGE_SIZE).getResultList();
+        entityManager.clear();
+        return tasks;
+    }
+
+    private List<Long> seedLabels(LabelService labelService) {
+        List<Long> labelIds = new ArrayList<>(labelCount);
+        for (int i = 0; i < labelCount; i++) {
+            LabelCreateDTO label = new LabelCreateDTO();
+            label.setName("jmh-label-" + i);
+            labelIds.add(labelService.createLabel(label).getId());
+        }
+        return labelIds;
+    }
+
+    private static void seedTasks(TaskService taskService, List<Long> labelIds) {
+        for (int offset = 0; offset < TASKS; offset += SEED_BATCH_SIZE) {
+            List<TaskCreateDTO> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int i = offset; i < Math.min(offset + SEED_BATCH_SIZE, TASKS); i++) {
+                TaskCreateDTO task = new TaskCreateDTO();
+                task.setTitle("Task " + i);
+                task.setContent("Description of task " + i);
+                task.setStatus(STATUSES[i % STATUSES.length]);
+                task.setAssigneeId(i % 2 == 0 ? 1L : null);
+                if (!labelIds.isEmpty()) {
+                    Set<Long> taskLabelIds = new LinkedHashSet<>();
+                    for (int j = 0; j < LABELS_PER_TASK; j++) {
+                        taskLabelIds.add(labelIds.get((i + j) % labelIds.size()));
+                    }
+                    task.setTaskLabelIds(taskLabelIds);
+                }
+                batch.add(task);
+            }
+            taskService.createTasks(batch);
+        }
+    }
+}
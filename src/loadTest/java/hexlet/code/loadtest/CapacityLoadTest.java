@@ -0,0 +1,365 @@
+package hexlet.code.loadtest;
+
+import hexlet.code.AppApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class CapacityLoadTest {
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String[] DEFAULT_STATUSES = {"draft", "to_review", "to_be_fixed", "to_publish", "published"};
+    private static final String PASSWORD = "load-password";
+    private static final int SEED_BATCH_SIZE = 500;
+    private static final int BOARD_PAGE_SIZE = 50;
+
+    private final Settings settings;
+    private final List<ApiClient> clients = new ArrayList<>();
+    private final List<String> emails = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<String> statuses = new ArrayList<>(List.of(DEFAULT_STATUSES));
+    private final List<Long> labelIds = new ArrayList<>();
+    private final List<Long> taskIds = new ArrayList<>();
+    private final Queue<Long> createdTaskIds = new ConcurrentLinkedQueue<>();
+
+    private CapacityLoadTest(Settings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        try (ConfigurableApplicationContext context = start(settings)) {
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            new CapacityLoadTest(settings).run(port);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(Settings settings) {
+        List<String> properties = new ArrayList<>(List.of(
+            "server.port=0",
+            "management.server.port=0",
+            "spring.main.banner-mode=off",
+            "spring.threads.virtual.enabled=" + settings.virtualThreads(),
+            "spring.datasource.url=" + settings.datasourceUrl(),
+            "spring.jpa.show-sql=false",
+            "login-protection.rate-limit.enabled=false",
+            "logging.level.root=WARN"));
+        if (settings.datasourceUsername() != null) {
+            properties.add("spring.datasource.username=" + settings.datasourceUsername());
+            properties.add("spring.datasource.password=" + settings.datasourcePassword());
+        }
+        return new SpringApplicationBuilder(AppApplication.class)
+            .properties(properties.toArray(String[]::new))
+            .run();
+    }
+
+    private void run(int port) throws IOException, InterruptedException {
+        ApiClient admin = new ApiClient(port);
+        admin.login("hexlet@example.com", "qwerty");
+
+        long seedStart = System.nanoTime();
+        seed(admin, port);
+        System.out.printf("Seeded %d users, %d statuses, %d labels and %d tasks in %d ms%n",
+            userIds.size(), statuses.size(), labelIds.size(), taskIds.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+        replay(settings.warmup());
+        Map<Operation, LatencyRecorder> recorders = replay(settings.duration());
+        report(recorders);
+    }
+
+    private void seed(ApiClient admin, int port) throws IOException, InterruptedException {
+        for (int i = 0; i < settings.users(); i++) {
+            String email = "load-user-" + i + "@example.com";
+            String body = "{\"email\":\"" + email + "\",\"firstName\":\"Load\",\"lastName\":\"User " + i
+                + "\",\"password\":\"" + PASSWORD + "\"}";
+            userIds.add(createdId(admin.post("/api/users", body)));
+            ApiClient client = new ApiClient(port);
+            client.login(email, PASSWORD);
+            clients.add(client);
+            emails.add(email);
+        }
+
+        for (int i = 0; i < settings.statuses(); i++) {
+            String slug = "load_status_" + i;
+            String body = "{\"name\":\"Load status " + i + "\",\"slug\":\"" + slug + "\"}";
+            createdId(admin.post("/api/task_statuses", body));
+            statuses.add(slug);
+        }
+
+        for (int i = 0; i < settings.labels(); i++) {
+            labelIds.add(createdId(admin.post("/api/labels", "{\"name\":\"load-label-" + i + "\"}")));
+        }
+
+        for (int offset = 0; offset < settings.tasks(); offset += SEED_BATCH_SIZE) {
+            int size = Math.min(SEED_BATCH_SIZE, settings.tasks() - offset);
+            StringBuilder batch = new StringBuilder("[");
+            for (int i = offset; i < offset + size; i++) {
+                if (i > offset) {
+                    batch.append(',');
+                }
+                batch.append(taskJson("Seeded task " + i, i));
+            }
+            HttpResponse<String> response = admin.post("/api/tasks/batch", batch.append(']').toString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding tasks failed with status " + response.statusCode());
+            }
+            Matcher matcher = ID_PATTERN.matcher(response.body());
+            while (matcher.find()) {
+                taskIds.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+    }
+
+    private Map<Operation, LatencyRecorder> replay(Duration duration) throws InterruptedException {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        Operation[] schedule = settings.schedule();
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        long requests = duration.toNanos() / interval;
+        Semaphore inFlight = new Semaphore(settings.maxInFlight());
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                long intended = start + i * interval;
+                long delay = intended - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+                Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                Long deletedId = operation == Operation.DELETE ? createdTaskIds.poll() : null;
+                if (operation == Operation.DELETE && deletedId == null) {
+                    operation = Operation.CREATE;
+                }
+                LatencyRecorder recorder = recorders.get(operation);
+                if (!inFlight.tryAcquire()) {
+                    if (deletedId != null) {
+                        createdTaskIds.add(deletedId);
+                    }
+                    recorder.recordError();
+                    continue;
+                }
+                Operation scheduled = operation;
+                executor.submit(() -> {
+                    try {
+                        if (execute(scheduled, deletedId)) {
+                            recorder.record(System.nanoTime() - intended);
+                        } else {
+                            recorder.recordError();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        recorder.recordError();
+                    } finally {
+                        inFlight.release();
+                    }
+                    return null;
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(duration.toMillis() + 120_000, TimeUnit.MILLISECONDS);
+        }
+        return recorders;
+    }
+
+    private boolean execute(Operation operation, Long deletedId) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int user = random.nextInt(clients.size());
+        ApiClient client = clients.get(user);
+        switch (operation) {
+            case LOGIN -> {
+                client.login(emails.get(user), PASSWORD);
+                return true;
+            }
+            case BOARD -> {
+                String status = statuses.get(random.nextInt(statuses.size()));
+                return client.get("/api/tasks?status=" + status + "&limit=" + BOARD_PAGE_SIZE).statusCode() == 200;
+            }
+            case FILTER -> {
+                String path = "/api/tasks?titleCont=" + random.nextInt(10)
+                    + "&assigneeId=" + userIds.get(random.nextInt(userIds.size()))
+                    + (labelIds.isEmpty() ? "" : "&labelIds=" + labelIds.get(random.nextInt(labelIds.size())));
+                return client.get(path).statusCode() == 200;
+            }
+            case CREATE -> {
+                HttpResponse<String> response = client.post("/api/tasks", taskJson("Load task", random.nextInt()));
+                Matcher matcher = ID_PATTERN.matcher(response.body());
+                if (response.statusCode() != 201 || !matcher.find()) {
+                    return false;
+                }
+                createdTaskIds.add(Long.parseLong(matcher.group(1)));
+                return true;
+            }
+            case UPDATE -> {
+                long id = taskIds.get(random.nextInt(taskIds.size()));
+                String status = statuses.get(random.nextInt(statuses.size()));
+                String body = "{\"content\":\"Updated " + System.nanoTime() + "\",\"status\":\"" + status + "\"}";
+                return client.put("/api/tasks/" + id, body).statusCode() == 200;
+            }
+            case DELETE -> {
+                return client.delete("/api/tasks/" + deletedId).statusCode() == 204;
+            }
+            default -> throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+
+    private String taskJson(String title, int seed) {
+        int index = Math.floorMod(seed, Integer.MAX_VALUE);
+        StringBuilder json = new StringBuilder("{\"title\":\"").append(title).append(' ').append(index % 10)
+            .append("\",\"content\":\"Synthetic load test task\",\"status\":\"")
+            .append(statuses.get(index % statuses.size()))
+            .append("\",\"assigneeId\":").append(userIds.get(index % userIds.size()));
+        if (!labelIds.isEmpty()) {
+            json.append(",\"taskLabelIds\":[").append(labelIds.get(index % labelIds.size()));
+            if (labelIds.size() > 1) {
+                json.append(',').append(labelIds.get((index + 1) % labelIds.size()));
+            }
+            json.append(']');
+        }
+        return json.append('}').toString();
+    }
+
+    private void report(Map<Operation, LatencyRecorder> recorders) throws IOException {
+        double seconds = settings.duration().toMillis() / 1000.0;
+        int totalWeight = settings.mix().values().stream().mapToInt(Integer::intValue).sum();
+        List<String> rows = new ArrayList<>();
+        rows.add("endpoint,target_rps,requests,throughput_rps,p50_ms,p90_ms,p99_ms,max_ms,errors");
+        LatencyRecorder total = new LatencyRecorder();
+        for (Map.Entry<Operation, LatencyRecorder> entry : recorders.entrySet()) {
+            Operation operation = entry.getKey();
+            LatencyRecorder recorder = entry.getValue();
+            double target = settings.rate() * (double) settings.mix().getOrDefault(operation, 0) / totalWeight;
+            rows.add(row(operation.getEndpoint(), target, recorder, seconds));
+            recorder.copyTo(total);
+        }
+        rows.add(row("total", settings.rate(), total, seconds));
+
+        rows.forEach(System.out::println);
+        Path output = settings.output();
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+            rows.forEach(writer::println);
+        }
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    private static String row(String endpoint, double target, LatencyRecorder recorder, double seconds) {
+        return String.format("%s,%.1f,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%d", endpoint, target, recorder.count(),
+            recorder.count() / seconds, recorder.percentileMillis(50), recorder.percentileMillis(90),
+            recorder.percentileMillis(99), recorder.percentileMillis(100), recorder.errors());
+    }
+
+    private static long createdId(HttpResponse<String> response) {
+        Matcher matcher = ID_PATTERN.matcher(response.body());
+        if (response.statusCode() != 201 || !matcher.find()) {
+            throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private enum Operation {
+        LOGIN("POST /api/login"),
+        BOARD("GET /api/tasks?status"),
+        FILTER("GET /api/tasks?filter"),
+        CREATE("POST /api/tasks"),
+        UPDATE("PUT /api/tasks/{id}"),
+        DELETE("DELETE /api/tasks/{id}");
+
+        private final String endpoint;
+
+        Operation(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        private String getEndpoint() {
+            return endpoint;
+        }
+    }
+
+    private record Settings(
+            int users,
+            int statuses,
+            int labels,
+            int tasks,
+            int rate,
+            int maxInFlight,
+            Duration duration,
+            Duration warmup,
+            Map<Operation, Integer> mix,
+            boolean virtualThreads,
+            String datasourceUrl,
+            String datasourceUsername,
+            String datasourcePassword,
+            Path output) {
+
+        private Settings {
+            if (users < 1 || tasks < 1 || rate < 1) {
+                throw new IllegalArgumentException("loadtest.users, loadtest.tasks and loadtest.rate must be positive");
+            }
+        }
+
+        private static Settings fromSystemProperties() {
+            return new Settings(
+                Integer.getInteger("loadtest.users", 50),
+                Integer.getInteger("loadtest.statuses", 5),
+                Integer.getInteger("loadtest.labels", 20),
+                Integer.getInteger("loadtest.tasks", 5000),
+                Integer.getInteger("loadtest.rate", 200),
+                Integer.getInteger("loadtest.maxInFlight", 1000),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                parseMix(System.getProperty("loadtest.mix", "login=2,board=40,filter=25,create=12,update=15,delete=6")),
+                Boolean.getBoolean("loadtest.virtualThreads"),
+                System.getProperty("loadtest.datasourceUrl", "jdbc:h2:mem:capacity;DB_CLOSE_DELAY=-1"),
+                System.getProperty("loadtest.datasourceUsername"),
+                System.getProperty("loadtest.datasourcePassword", ""),
+                Path.of(System.getProperty("loadtest.output", "build/reports/loadtest/capacity.csv")));
+        }
+
+        private static Map<Operation, Integer> parseMix(String mix) {
+            Map<Operation, Integer> weights = Arrays.stream(mix.split(","))
+                .map(entry -> entry.trim().split("="))
+                .collect(Collectors.toMap(
+                    entry -> Operation.valueOf(entry[0].trim().toUpperCase(Locale.ROOT)),
+                    entry -> Integer.parseInt(entry[1].trim()),
+                    Integer::sum,
+                    LinkedHashMap::new));
+            if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+                throw new IllegalArgumentException("loadtest.mix must contain a positive weight");
+            }
+            return weights;
+        }
+
+        private Operation[] schedule() {
+            return mix.entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+        }
+    }
+}
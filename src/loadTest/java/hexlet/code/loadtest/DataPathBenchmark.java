@@ -0,0 +1,253 @@
+package hexlet.code.loadtest;
+
+import hexlet.code.AppApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public final class DataPathBenchmark {
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String[] WORDS = {
+        "invoice", "release", "backup", "onboarding", "migration", "payment", "refactor", "audit",
+        "deploy", "support", "design", "review", "billing", "search", "import", "export",
+        "report", "security", "cache", "metrics", "alert", "schema", "upgrade", "feedback"
+    };
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final int PAGE_SIZE = 50;
+    private static final int LABELS_PER_TASK = 3;
+    private static final int[] BATCH_SIZES = {1, 100, 500};
+    private static final int[] BULK_SIZES = {100, 1000};
+    private static final String[] BULK_STATUSES = {"to_review", "draft"};
+
+    private final ApiClient client;
+    private final int iterations;
+    private final int warmup;
+    private final List<Long> labelIds = new ArrayList<>();
+    private final List<Long> taskIds = new ArrayList<>();
+    private final List<String> rows = new ArrayList<>();
+
+    private DataPathBenchmark(ApiClient client, int iterations, int warmup) {
+        this.client = client;
+        this.iterations = iterations;
+        this.warmup = warmup;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int tasks = Integer.getInteger("loadtest.tasks", 20_000);
+        int labels = Integer.getInteger("loadtest.labels", 16);
+        int createItems = Integer.getInteger("loadtest.createItems", 5_000);
+        int bulkIterations = Integer.getInteger("loadtest.bulkIterations", 20);
+        int iterations = Integer.getInteger("loadtest.iterations", 200);
+        int warmup = Integer.getInteger("loadtest.warmupIterations", 50);
+        String scenarioList = System.getProperty("loadtest.scenarios", "search,labels,create,bulk");
+        Set<String> scenarios = Arrays.stream(scenarioList.split(","))
+            .map(String::trim)
+            .collect(Collectors.toSet());
+        Path output = Path.of(System.getProperty("loadtest.output", "build/reports/loadtest/data-paths.csv"));
+
+        try (ConfigurableApplicationContext context = start()) {
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            ApiClient client = new ApiClient(port);
+            client.login("hexlet@example.com", "qwerty");
+
+            DataPathBenchmark benchmark = new DataPathBenchmark(client, iterations, warmup);
+            benchmark.seed(labels, tasks);
+            if (scenarios.contains("search")) {
+                benchmark.search();
+            }
+            if (scenarios.contains("labels")) {
+                benchmark.labels();
+            }
+            if (scenarios.contains("create")) {
+                benchmark.create(createItems);
+            }
+            if (scenarios.contains("bulk")) {
+                benchmark.bulk(bulkIterations);
+            }
+            benchmark.write(output);
+        }
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(AppApplication.class)
+            .properties(
+                "server.port=0",
+                "management.server.port=0",
+                "spring.main.banner-mode=off",
+                "spring.datasource.url=jdbc:h2:mem:data-paths;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "task-cache.enabled=false",
+                "login-protection.rate-limit.enabled=false",
+                "logging.level.root=WARN")
+            .run();
+    }
+
+    private void seed(int labels, int tasks) throws IOException, InterruptedException {
+        for (int i = 0; i < labels; i++) {
+            HttpResponse<String> response = client.post("/api/labels", "{\"name\":\"bench-label-" + i + "\"}");
+            Matcher matcher = ID_PATTERN.matcher(response.body());
+            if (response.statusCode() != 201 || !matcher.find()) {
+                throw new IllegalStateException("Seeding labels failed with status " + response.statusCode());
+            }
+            labelIds.add(Long.parseLong(matcher.group(1)));
+        }
+
+        for (int offset = 0; offset < tasks; offset += SEED_BATCH_SIZE) {
+            int size = Math.min(SEED_BATCH_SIZE, tasks - offset);
+            List<String> batch = new ArrayList<>(size);
+            for (int i = offset; i < offset + size; i++) {
+                batch.add(taskJson(i, labelIds));
+            }
+            HttpResponse<String> response = client.post("/api/tasks/batch", "[" + String.join(",", batch) + "]");
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding tasks failed with status " + response.statusCode());
+            }
+            Matcher matcher = ID_PATTERN.matcher(response.body());
+            while (matcher.find()) {
+                taskIds.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+        System.out.println("Seeded " + labelIds.size() + " labels and " + taskIds.size() + " tasks");
+    }
+
+    private void search() throws IOException, InterruptedException {
+        measure("search", "full_text", taskIds.size(), 1, iteration ->
+            ok(client.get("/api/tasks?limit=" + PAGE_SIZE + "&search=" + word(iteration))));
+        measure("search", "title_like", taskIds.size(), 1, iteration ->
+            ok(client.get("/api/tasks?limit=" + PAGE_SIZE + "&titleCont=" + word(iteration))));
+    }
+
+    private void labels() throws IOException, InterruptedException {
+        for (int cardinality = 1; cardinality <= labelIds.size(); cardinality *= 2) {
+            for (String mode : List.of("any", "all")) {
+                int size = cardinality;
+                measure("labels", mode, cardinality, 1, iteration ->
+                    ok(client.get("/api/tasks?limit=" + PAGE_SIZE + "&labelMode=" + mode
+                        + "&labelIds=" + labelParameter(iteration, size))));
+            }
+        }
+    }
+
+    private String labelParameter(int iteration, int size) {
+        return IntStream.range(0, size)
+            .mapToObj(i -> String.valueOf(labelIds.get((iteration + i) % labelIds.size())))
+            .collect(Collectors.joining(","));
+    }
+
+    private void create(int items) throws IOException, InterruptedException {
+        for (int size : BATCH_SIZES) {
+            int batchSize = size;
+            int count = Math.max(1, items / batchSize);
+            if (batchSize == 1) {
+                measure("create", "single", batchSize, 1, count, iteration ->
+                    client.post("/api/tasks", taskJson(iteration, List.of())).statusCode() == 201);
+            } else {
+                measure("create", "batch", batchSize, batchSize, count, iteration ->
+                    ok(client.post("/api/tasks/batch", IntStream.range(0, batchSize)
+                        .mapToObj(i -> taskJson(iteration * batchSize + i, List.of()))
+                        .collect(Collectors.joining(",", "[", "]")))));
+            }
+        }
+    }
+
+    private void bulk(int count) throws IOException, InterruptedException {
+        for (int size : BULK_SIZES) {
+            List<Long> ids = taskIds.subList(0, Math.min(size, taskIds.size()));
+            measure("bulk", "bulk_update", ids.size(), ids.size(), count, iteration ->
+                ok(client.patch("/api/tasks/bulk/status", "{\"ids\":" + ids + ",\"status\":\""
+                    + bulkStatus(iteration) + "\"}")));
+            measure("bulk", "per_task_put", ids.size(), ids.size(), count, iteration -> {
+                boolean succeeded = true;
+                for (Long id : ids) {
+                    succeeded &= ok(client.put("/api/tasks/" + id, "{\"status\":\"" + bulkStatus(iteration) + "\"}"));
+                }
+                return succeeded;
+            });
+        }
+    }
+
+    private void measure(String scenario, String variant, int parameter, int itemsPerOperation, Operation operation)
+            throws IOException, InterruptedException {
+        measure(scenario, variant, parameter, itemsPerOperation, iterations, operation);
+    }
+
+    private void measure(
+            String scenario,
+            String variant,
+            int parameter,
+            int itemsPerOperation,
+            int count,
+            Operation operation) throws IOException, InterruptedException {
+        for (int i = 0; i < Math.min(warmup, count); i++) {
+            operation.run(i);
+        }
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        long started = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            if (operation.run(warmup + i)) {
+                recorder.record(System.nanoTime() - start);
+            } else {
+                recorder.recordError();
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        String row = String.format("%s,%s,%d,%d,%d,%.1f,%.2f,%.2f,%d", scenario, variant, parameter,
+            recorder.count(), (long) recorder.count() * itemsPerOperation,
+            recorder.count() * itemsPerOperation / seconds,
+            recorder.percentileMillis(50), recorder.percentileMillis(99), recorder.errors());
+        System.out.println(row);
+        rows.add(row);
+    }
+
+    private void write(Path output) throws IOException {
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+            writer.println("scenario,variant,parameter,operations,items,items_per_s,p50_ms,p99_ms,errors");
+            rows.forEach(writer::println);
+        }
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    private static String taskJson(int i, List<Long> labelIds) {
+        String labels = labelIds.isEmpty() ? "" : IntStream.range(0, Math.min(LABELS_PER_TASK, labelIds.size()))
+            .mapToObj(j -> String.valueOf(labelIds.get((i + j * 5) % labelIds.size())))
+            .distinct()
+            .collect(Collectors.joining(",", ",\"taskLabelIds\":[", "]"));
+        return "{\"title\":\"Task " + i + " " + WORDS[i % WORDS.length] + " " + WORDS[i / WORDS.length % WORDS.length]
+            + "\",\"content\":\"Synthetic " + WORDS[(i * 7) % WORDS.length] + " notes\",\"status\":\"draft\""
+            + labels + "}";
+    }
+
+    private static String bulkStatus(int iteration) {
+        return BULK_STATUSES[iteration % BULK_STATUSES.length];
+    }
+
+    private static String word(int iteration) {
+        return WORDS[iteration % WORDS.length];
+    }
+
+    private static boolean ok(HttpResponse<String> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        boolean run(int iteration) throws IOException, InterruptedException;
+    }
+}
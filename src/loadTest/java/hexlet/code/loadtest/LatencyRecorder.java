@@ -0,0 +1,46 @@
+package hexlet.code.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+final class LatencyRecorder {
+    private final LongAdder errors = new LongAdder();
+    private long[] samples = new long[1024];
+    private int count;
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    synchronized void copyTo(LatencyRecorder target) {
+        for (int i = 0; i < count; i++) {
+            target.record(samples[i]);
+        }
+        target.errors.add(errors.sum());
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * count) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,186 @@
+package hexlet.code.loadtest;
+
+import hexlet.code.AppApplication;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class VirtualThreadsBenchmark {
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String[] STATUSES = {"draft", "to_review", "to_be_fixed", "to_publish", "published"};
+    private static final AtomicBoolean INJECT_LATENCY = new AtomicBoolean();
+
+    private VirtualThreadsBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] levels = Arrays.stream(System.getProperty("loadtest.concurrency", "16,64,256,1024").split(","))
+            .mapToInt(level -> Integer.parseInt(level.trim()))
+            .toArray();
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT20S"));
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT5S"));
+        Duration dbLatency = Duration.ofMillis(Long.parseLong(System.getProperty("loadtest.dbLatencyMs", "20")));
+        int poolSize = Integer.parseInt(System.getProperty("loadtest.poolSize", "20"));
+        int seedTasks = Integer.parseInt(System.getProperty("loadtest.tasks", "200"));
+        Path output = Path.of(System.getProperty("loadtest.output", "build/reports/loadtest/virtual-threads.csv"));
+
+        List<String> rows = new ArrayList<>();
+        rows.add("mode,concurrency,requests,throughput_rps,p50_ms,p99_ms,errors");
+        for (boolean virtualThreads : new boolean[] {false, true}) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            try (ConfigurableApplicationContext context = start(virtualThreads, poolSize, dbLatency)) {
+                int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+                ApiClient client = new ApiClient(port);
+                client.login("hexlet@example.com", "qwerty");
+                List<Long> taskIds = seed(client, seedTasks);
+
+                INJECT_LATENCY.set(true);
+                for (int concurrency : levels) {
+                    run(client, taskIds, concurrency, warmup);
+                    LatencyRecorder recorder = run(client, taskIds, concurrency, duration);
+                    double throughput = recorder.count() / (duration.toMillis() / 1000.0);
+                    String row = String.format("%s,%d,%d,%.1f,%.2f,%.2f,%d", mode, concurrency, recorder.count(),
+                        throughput, recorder.percentileMillis(50), recorder.percentileMillis(99), recorder.errors());
+                    System.out.println(row);
+                    rows.add(row);
+                }
+                INJECT_LATENCY.set(false);
+            }
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+            rows.forEach(writer::println);
+        }
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads, int poolSize, Duration dbLatency) {
+        return new SpringApplicationBuilder(AppApplication.class)
+            .properties(
+                "server.port=0",
+                "management.server.port=0",
+                "spring.main.banner-mode=off",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "spring.datasource.url=jdbc:h2:mem:loadtest-" + virtualThreads + ";DB_CLOSE_DELAY=-1",
+                "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "spring.jpa.show-sql=false",
+                "task-cache.enabled=false",
+                "login-protection.rate-limit.enabled=false",
+                "logging.level.root=WARN")
+            .initializers(context -> context.getBeanFactory()
+                .addBeanPostProcessor(new LatencyInjectingPostProcessor(dbLatency)))
+            .run();
+    }
+
+    private static List<Long> seed(ApiClient client, int tasks) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            String body = "{\"title\":\"Load task " + i + "\",\"status\":\"" + STATUSES[i % STATUSES.length] + "\"}";
+            HttpResponse<String> response = client.post("/api/tasks", body);
+            Matcher matcher = ID_PATTERN.matcher(response.body());
+            if (response.statusCode() != 201 || !matcher.find()) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+            }
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private static LatencyRecorder run(ApiClient client, List<Long> taskIds, int concurrency, Duration duration)
+            throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        String path = random.nextBoolean()
+                            ? "/api/tasks/" + taskIds.get(random.nextInt(taskIds.size()))
+                            : "/api/tasks?status=" + STATUSES[random.nextInt(STATUSES.length)];
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = client.get(path);
+                            if (response.statusCode() == 200) {
+                                recorder.record(System.nanoTime() - start);
+                            } else {
+                                recorder.recordError();
+                            }
+                        } catch (IOException e) {
+                            recorder.recordError();
+                        }
+                    }
+                    return null;
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(duration.toMillis() * 2 + 60_000, TimeUnit.MILLISECONDS);
+        }
+        return recorder;
+    }
+
+    private static final class LatencyInjectingPostProcessor implements BeanPostProcessor {
+        private final Duration latency;
+
+        private LatencyInjectingPostProcessor(Duration latency) {
+            this.latency = latency;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return Proxy.newProxyInstance(
+                DataSource.class.getClassLoader(),
+                new Class<?>[] {DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(dataSource, method, args);
+                    return result instanceof Connection connection ? slow(connection) : result;
+                });
+        }
+
+        private Connection slow(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if (INJECT_LATENCY.get() && method.getName().startsWith("prepare")) {
+                        Thread.sleep(latency.toMillis());
+                    }
+                    return invoke(connection, method, args);
+                });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package hexlet.code.cache;
+
+import java.util.Optional;
+
+public interface IdempotencyStore {
+    Optional<IdempotentResponse> find(String key);
+    void save(String key, IdempotentResponse response);
+}
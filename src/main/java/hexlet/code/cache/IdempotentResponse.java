@@ -0,0 +1,24 @@
+package hexlet.code.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+public class IdempotentResponse {
+    private final String fingerprint;
+    private final int status;
+    private final String contentType;
+    @Getter(AccessLevel.NONE)
+    private final byte[] body;
+
+    public IdempotentResponse(String fingerprint, int status, String contentType, byte[] body) {
+        this.fingerprint = fingerprint;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body.clone();
+    }
+
+    public byte[] getBody() {
+        return body.clone();
+    }
+}
@@ -0,0 +1,234 @@
+package hexlet.code.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.mapper.LabelMapper;
+import hexlet.code.mapper.TaskStatusMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.util.ETagUtils;
+import hexlet.code.util.ReferenceDataProperties;
+import hexlet.code.util.TransactionUtils;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class ReferenceDataRegistry {
+    private static final String PENDING_WRITES_KEY = ReferenceDataRegistry.class.getName() + ".pendingWrites";
+
+    private final TaskStatusRepository taskStatusRepository;
+    private final LabelRepository labelRepository;
+    private final TaskStatusMapper taskStatusMapper;
+    private final LabelMapper labelMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ReferenceDataProperties properties;
+
+    private volatile Entries taskStatuses;
+    private volatile Entries labels;
+
+    public ReferenceDataRegistry(
+            TaskStatusRepository taskStatusRepository,
+            LabelRepository labelRepository,
+            TaskStatusMapper taskStatusMapper,
+            LabelMapper labelMapper,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            ReferenceDataProperties properties) {
+        this.taskStatusRepository = taskStatusRepository;
+        this.labelRepository = labelRepository;
+        this.taskStatusMapper = taskStatusMapper;
+        this.labelMapper = labelMapper;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reloadTaskStatuses();
+        reloadLabels();
+    }
+
+    public Optional<Long> findTaskStatusIdBySlug(String slug) {
+        Entries entries = current(taskStatuses());
+        return entries == null ? Optional.empty() : Optional.ofNullable(entries.getIdsByKey().get(slug));
+    }
+
+    public Map<String, Long> findTaskStatusIdsBySlug(Collection<String> slugs) {
+        Entries entries = current(taskStatuses());
+        Map<String, Long> selected = new HashMap<>();
+        if (entries != null) {
+            for (String slug : slugs) {
+                Long id = entries.getIdsByKey().get(slug);
+                if (id != null) {
+                    selected.put(slug, id);
+                }
+            }
+        }
+        return selected;
+    }
+
+    public Set<Long> findExistingLabelIds(Collection<Long> ids) {
+        Entries entries = current(labels());
+        Set<Long> existing = new HashSet<>();
+        if (entries != null) {
+            for (Long id : ids) {
+                if (entries.getIds().contains(id)) {
+                    existing.add(id);
+                }
+            }
+        }
+        return existing;
+    }
+
+    public SerializedList getTaskStatusList() {
+        Entries entries = current(taskStatuses());
+        return (entries == null ? loadTaskStatuses() : entries).getList();
+    }
+
+    public SerializedList getLabelList() {
+        Entries entries = current(labels());
+        return (entries == null ? loadLabels() : entries).getList();
+    }
+
+    public void onTaskStatusesChanged() {
+        TransactionUtils.markCurrentTransaction(PENDING_WRITES_KEY);
+        TransactionUtils.afterCompletion(this::reloadTaskStatuses);
+    }
+
+    public void onLabelsChanged() {
+        TransactionUtils.markCurrentTransaction(PENDING_WRITES_KEY);
+        TransactionUtils.afterCompletion(this::reloadLabels);
+    }
+
+    private Entries taskStatuses() {
+        if (isExpired(taskStatuses)) {
+            refreshTaskStatuses();
+        }
+        return taskStatuses;
+    }
+
+    private Entries labels() {
+        if (isExpired(labels)) {
+            refreshLabels();
+        }
+        return labels;
+    }
+
+    private synchronized void refreshTaskStatuses() {
+        if (isExpired(taskStatuses)) {
+            try {
+                taskStatuses = transactionTemplate.execute(status -> loadTaskStatuses());
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh task statuses", e);
+            }
+        }
+    }
+
+    private synchronized void refreshLabels() {
+        if (isExpired(labels)) {
+            try {
+                labels = transactionTemplate.execute(status -> loadLabels());
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh labels", e);
+            }
+        }
+    }
+
+    private boolean isExpired(Entries entries) {
+        Duration interval = properties.getRefreshInterval();
+        return entries != null && interval != null && !interval.isNegative() && !interval.isZero()
+            && System.nanoTime() - entries.getLoadedAt() > interval.toNanos();
+    }
+
+    private synchronized void reloadTaskStatuses() {
+        try {
+            taskStatuses = transactionTemplate.execute(status -> loadTaskStatuses());
+        } catch (RuntimeException e) {
+            taskStatuses = null;
+            throw e;
+        }
+    }
+
+    private synchronized void reloadLabels() {
+        try {
+            labels = transactionTemplate.execute(status -> loadLabels());
+        } catch (RuntimeException e) {
+            labels = null;
+            throw e;
+        }
+    }
+
+    private Entries loadTaskStatuses() {
+        List<TaskStatus> all = taskStatusRepository.findAll(Sort.by("id"));
+        return new Entries(
+            index(all, TaskStatus::getSlug, TaskStatus::getId),
+            serialize(taskStatusMapper.toResponseDTOList(all), all.size()),
+            System.nanoTime());
+    }
+
+    private Entries loadLabels() {
+        List<Label> all = labelRepository.findAll(Sort.by("id"));
+        return new Entries(
+            index(all, Label::getName, Label::getId),
+            serialize(labelMapper.toResponseDTOList(all), all.size()),
+            System.nanoTime());
+    }
+
+    private Entries current(Entries entries) {
+        return TransactionUtils.isCurrentTransactionMarked(PENDING_WRITES_KEY) ? null : entries;
+    }
+
+    private SerializedList serialize(List<?> dtos, int count) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(dtos);
+            return new SerializedList(body, ETagUtils.of(body), count);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <E> Map<String, Long> index(List<E> entities, Function<E, String> key, Function<E, Long> id) {
+        return entities.stream().collect(Collectors.toUnmodifiableMap(key, id));
+    }
+
+    @Value
+    private static class Entries {
+        private final Map<String, Long> idsByKey;
+        private final Set<Long> ids;
+        private final SerializedList list;
+        private final long loadedAt;
+
+        Entries(Map<String, Long> idsByKey, SerializedList list, long loadedAt) {
+            this.idsByKey = idsByKey;
+            this.ids = Set.copyOf(idsByKey.values());
+            this.list = list;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
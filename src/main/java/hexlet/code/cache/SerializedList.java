@@ -0,0 +1,10 @@
+package hexlet.code.cache;
+
+import lombok.Value;
+
+@Value
+public class SerializedList {
+    private final byte[] body;
+    private final String etag;
+    private final int count;
+}
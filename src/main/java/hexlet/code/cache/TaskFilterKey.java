@@ -0,0 +1,78 @@
+package hexlet.code.cache;
+
+import hexlet.code.dto.Task.TaskFilterDTO;
+import hexlet.code.specification.TaskSpecification;
+import hexlet.code.util.SearchTokenizer;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+@Value
+public class TaskFilterKey {
+    private final String titleCont;
+    private final Long assigneeId;
+    private final String status;
+    private final Long labelId;
+    private final SortedSet<Long> labelIds;
+    private final boolean allLabels;
+    private final List<String> searchTerms;
+
+    public static TaskFilterKey of(TaskFilterDTO filter) {
+        boolean hasLabelIds = filter.getLabelIds() != null && !filter.getLabelIds().isEmpty();
+
+        return new TaskFilterKey(
+            blankToNull(filter.getTitleCont() == null ? null : filter.getTitleCont().toLowerCase(Locale.ROOT)),
+            filter.getAssigneeId(),
+            blankToNull(filter.getStatus()),
+            filter.getLabelId(),
+            hasLabelIds ? Collections.unmodifiableSortedSet(new TreeSet<>(filter.getLabelIds())) : null,
+            hasLabelIds && TaskSpecification.LABEL_MODE_ALL.equalsIgnoreCase(filter.getLabelMode()),
+            SearchTokenizer.tokenize(filter.getSearch())
+        );
+    }
+
+    public boolean matches(TaskSnapshot task) {
+        if (task == null) {
+            return false;
+        }
+        if (titleCont != null
+                && (task.getTitle() == null || !task.getTitle().toLowerCase(Locale.ROOT).contains(titleCont))) {
+            return false;
+        }
+        if (assigneeId != null && !assigneeId.equals(task.getAssigneeId())) {
+            return false;
+        }
+        if (status != null && !status.equals(task.getStatus())) {
+            return false;
+        }
+        if (labelId != null && !task.getLabelIds().contains(labelId)) {
+            return false;
+        }
+        if (labelIds != null && !matchesLabels(task.getLabelIds())) {
+            return false;
+        }
+        return searchTerms.isEmpty() || matchesSearch(task);
+    }
+
+    private boolean matchesLabels(Set<Long> taskLabelIds) {
+        return allLabels
+            ? taskLabelIds.containsAll(labelIds)
+            : labelIds.stream().anyMatch(taskLabelIds::contains);
+    }
+
+    private boolean matchesSearch(TaskSnapshot task) {
+        Set<String> tokens = new TreeSet<>(SearchTokenizer.tokenize(task.getTitle()));
+        tokens.addAll(SearchTokenizer.tokenize(task.getContent()));
+        return searchTerms.stream()
+            .allMatch(term -> tokens.stream().anyMatch(token -> token.startsWith(term)));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,92 @@
+package hexlet.code.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import hexlet.code.dto.Task.TaskFilterDTO;
+import hexlet.code.dto.Task.TaskResponseDTO;
+import hexlet.code.util.TaskCacheProperties;
+import hexlet.code.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+@Component
+public class TaskQueryCache {
+    private static final String PENDING_WRITES_KEY = TaskQueryCache.class.getName() + ".pendingWrites";
+
+    private final boolean enabled;
+    private final Cache<TaskFilterKey, List<TaskResponseDTO>> cache;
+    private final Object writeLock = new Object();
+    private long generation;
+
+    public TaskQueryCache(TaskCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tasks.query");
+    }
+
+    public List<TaskResponseDTO> get(TaskFilterDTO filter, Supplier<List<TaskResponseDTO>> loader) {
+        if (!enabled || TransactionUtils.isCurrentTransactionMarked(PENDING_WRITES_KEY)) {
+            return loader.get();
+        }
+
+        TaskFilterKey key = TaskFilterKey.of(filter);
+        List<TaskResponseDTO> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = currentGeneration();
+        List<TaskResponseDTO> loaded = List.copyOf(loader.get());
+        synchronized (writeLock) {
+            if (generation == startGeneration) {
+                cache.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public void onTaskWrite(TaskSnapshot before, TaskSnapshot after) {
+        invalidateMatching(before, after);
+        TransactionUtils.markCurrentTransaction(PENDING_WRITES_KEY);
+        TransactionUtils.afterCompletion(() -> invalidateMatching(before, after));
+    }
+
+    public void invalidateAll() {
+        invalidateAllNow();
+        TransactionUtils.markCurrentTransaction(PENDING_WRITES_KEY);
+        TransactionUtils.afterCompletion(this::invalidateAllNow);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private void invalidateAllNow() {
+        synchronized (writeLock) {
+            generation++;
+            cache.invalidateAll();
+        }
+    }
+
+    private void invalidateMatching(TaskSnapshot before, TaskSnapshot after) {
+        synchronized (writeLock) {
+            generation++;
+            cache.asMap().keySet().removeIf(key -> key.matches(before) || key.matches(after));
+        }
+    }
+
+    private long currentGeneration() {
+        synchronized (writeLock) {
+            return generation;
+        }
+    }
+}
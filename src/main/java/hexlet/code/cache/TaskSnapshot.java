@@ -0,0 +1,31 @@
+package hexlet.code.cache;
+
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import lombok.Value;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Value
+public class TaskSnapshot {
+    private final String title;
+    private final String content;
+    private final String status;
+    private final Long assigneeId;
+    private final Set<Long> labelIds;
+
+    public static TaskSnapshot of(Task task) {
+        Set<Long> labelIds = task.getLabels() == null
+            ? Set.of()
+            : task.getLabels().stream().map(Label::getId).collect(Collectors.toUnmodifiableSet());
+
+        return new TaskSnapshot(
+            task.getTitle(),
+            task.getContent(),
+            task.getTaskStatus() == null ? null : task.getTaskStatus().getSlug(),
+            task.getAssignee() == null ? null : task.getAssignee().getId(),
+            labelIds
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package hexlet.code.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import hexlet.code.util.DataSourceGuardProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+public class DataSourceGuardConfig {
+    private static final int DEFAULT_MAX_CONCURRENT = 10;
+
+    @Bean
+    public static BeanPostProcessor dataSourceGuardPostProcessor(ObjectProvider<DataSourceGuardProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+
+                DataSourceGuardProperties guard = properties.getObject();
+                if (!guard.isEnabled()) {
+                    return bean;
+                }
+                return new ConcurrencyLimitedDataSource(
+                    dataSource,
+                    maxConcurrent(dataSource, guard),
+                    guard.getAcquireTimeout());
+            }
+        };
+    }
+
+    private static int maxConcurrent(DataSource dataSource, DataSourceGuardProperties guard) {
+        if (guard.getMaxConcurrent() != null) {
+            return guard.getMaxConcurrent();
+        }
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            return DEFAULT_MAX_CONCURRENT;
+        }
+        return DEFAULT_MAX_CONCURRENT;
+    }
+}
@@ -0,0 +1,17 @@
+package hexlet.code.config;
+
+import hexlet.code.cache.IdempotencyStore;
+import hexlet.code.cache.InMemoryIdempotencyStore;
+import hexlet.code.util.IdempotencyProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdempotencyConfig {
+    @Bean
+    @ConditionalOnMissingBean(IdempotencyStore.class)
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties);
+    }
+}
@@ -1,6 +1,9 @@
 package hexlet.code.config;
 
+import hexlet.code.cache.CachingJwtDecoder;
+import hexlet.code.util.JwtCacheProperties;
 import hexlet.code.util.RsaKeyProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
@@ -17,19 +20,33 @@ import com.nimbusds.jose.proc.SecurityContext;
 
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
 
 @Configuration
 public class JwtConfig {
     private final RsaKeyProperties rsaKeyProperties;
+    private final JwtCacheProperties jwtCacheProperties;
 
-    public JwtConfig(RsaKeyProperties rsaKeyProperties) {
+    public JwtConfig(RsaKeyProperties rsaKeyProperties, JwtCacheProperties jwtCacheProperties) {
         this.rsaKeyProperties = rsaKeyProperties;
+        this.jwtCacheProperties = jwtCacheProperties;
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() throws Exception {
+    public JwtDecoder jwtDecoder(MeterRegistry meterRegistry) throws Exception {
         RSAPublicKey publicKey = rsaKeyProperties.getPublicKey();
-        return NimbusJwtDecoder.withPublicKey(publicKey).build();
+        JwtDecoder decoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
+        if (!jwtCacheProperties.isEnabled()) {
+            return decoder;
+        }
+
+        CachingJwtDecoder cachingDecoder = new CachingJwtDecoder(
+            decoder,
+            jwtCacheProperties.getMaximumSize(),
+            jwtCacheProperties.getMaxTtl(),
+            Clock.systemUTC());
+        cachingDecoder.bindTo(meterRegistry);
+        return cachingDecoder;
     }
 
     @Bean
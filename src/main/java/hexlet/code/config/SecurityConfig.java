@@ -1,5 +1,14 @@
 package hexlet.code.config;
 
+import hexlet.code.security.BoundedPasswordEncoder;
+import hexlet.code.security.PasswordEncoders;
+import hexlet.code.security.PasswordHashingAlgorithm;
+import hexlet.code.security.UserPrincipalConverter;
+import hexlet.code.util.LoginProtectionProperties;
+import hexlet.code.util.PasswordHashingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -8,7 +17,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -23,12 +31,32 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            PasswordHashingProperties hashingProperties,
+            LoginProtectionProperties loginProtectionProperties,
+            MeterRegistry meterRegistry) {
+        PasswordHashingAlgorithm algorithm = hashingProperties.getAlgorithm();
+        int configuredCost = hashingProperties.getCost() == null
+            ? algorithm.getDefaultCost()
+            : algorithm.validateCost(hashingProperties.getCost());
+        int cost = hashingProperties.getTargetHashTime() == null
+            ? configuredCost
+            : PasswordEncoders.calibrate(algorithm, configuredCost, hashingProperties.getTargetHashTime());
+
+        Gauge.builder("auth.password.cost", () -> cost)
+            .tag("algorithm", algorithm.getId())
+            .register(meterRegistry);
+        return new BoundedPasswordEncoder(
+            PasswordEncoders.delegating(algorithm, cost),
+            loginProtectionProperties.getHashing(),
+            meterRegistry);
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, JwtDecoder jwtDecoder) throws Exception {
+    public SecurityFilterChain filterChain(
+            HttpSecurity http,
+            JwtDecoder jwtDecoder,
+            UserPrincipalConverter userPrincipalConverter) throws Exception {
         return http
             .csrf(csrf -> csrf.disable()) // NOSONAR - CSRF защита отключена для REST API с JWT аутентификацией
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -36,9 +64,12 @@ public class SecurityConfig {
                 .requestMatchers("/", "/index.html", "/assets/**").permitAll()
                 .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/api-docs/**").permitAll()
                 .requestMatchers("/api/login").permitAll()
+                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                 .anyRequest().authenticated()
             )
-            .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.decoder(jwtDecoder)))
+            .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt
+                .decoder(jwtDecoder)
+                .jwtAuthenticationConverter(userPrincipalConverter)))
             .build();
     }
 }
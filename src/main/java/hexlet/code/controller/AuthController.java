@@ -1,7 +1,10 @@
 package hexlet.code.controller;
 
 import hexlet.code.dto.Auth.AuthRequestDTO;
+import hexlet.code.security.LoginRateLimiter;
+import hexlet.code.security.UserAccount;
 import hexlet.code.util.JwtUtils;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,16 +21,20 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
+    private final LoginRateLimiter loginRateLimiter;
 
     @PostMapping
-    public String login(@Valid @RequestBody AuthRequestDTO authRequest) {
+    public String login(@Valid @RequestBody AuthRequestDTO authRequest, HttpServletRequest request) {
+        loginRateLimiter.checkLogin(request.getRemoteAddr(), authRequest.getUsername());
+
         Authentication authToken = new UsernamePasswordAuthenticationToken(
             authRequest.getUsername(),
             authRequest.getPassword()
         );
 
-        authenticationManager.authenticate(authToken);
+        Authentication authentication = authenticationManager.authenticate(authToken);
+        UserAccount account = (UserAccount) authentication.getPrincipal();
 
-        return jwtUtils.generateToken(authRequest.getUsername());
+        return jwtUtils.generateToken(account.getUsername(), account.getId());
     }
 }
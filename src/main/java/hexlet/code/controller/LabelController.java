@@ -1,12 +1,16 @@
 package hexlet.code.controller;
 
+import hexlet.code.cache.SerializedList;
 import hexlet.code.dto.Label.LabelCreateDTO;
 import hexlet.code.dto.Label.LabelResponseDTO;
 import hexlet.code.dto.Label.LabelUpdateDTO;
 import hexlet.code.service.LabelService;
+import hexlet.code.util.ETagUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,12 +19,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/labels")
 @RequiredArgsConstructor
@@ -29,11 +32,19 @@ public class LabelController {
     private final LabelService labelService;
 
     @GetMapping
-    public ResponseEntity<List<LabelResponseDTO>> getAllLabels() {
-        List<LabelResponseDTO> labels = labelService.getAllLabels();
+    public ResponseEntity<byte[]> getAllLabels(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SerializedList labels = labelService.getLabelList();
+        if (ETagUtils.matches(ifNoneMatch, labels.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(labels.getEtag())
+                    .build();
+        }
         return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(labels.size()))
-                .body(labels);
+                .eTag(labels.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Total-Count", String.valueOf(labels.getCount()))
+                .body(labels.getBody());
     }
 
     @GetMapping("/{id}")
@@ -1,25 +1,46 @@
 package hexlet.code.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import hexlet.code.dto.Task.TaskBatchResultDTO;
+import hexlet.code.dto.Task.TaskBulkAssigneeDTO;
+import hexlet.code.dto.Task.TaskBulkDeleteJobDTO;
+import hexlet.code.dto.Task.TaskBulkResultDTO;
+import hexlet.code.dto.Task.TaskBulkStatusDTO;
 import hexlet.code.dto.Task.TaskCreateDTO;
 import hexlet.code.dto.Task.TaskFilterDTO;
+import hexlet.code.dto.Task.TaskMoveDTO;
+import hexlet.code.dto.Task.TaskPageDTO;
 import hexlet.code.dto.Task.TaskResponseDTO;
 import hexlet.code.dto.Task.TaskUpdateDTO;
+import hexlet.code.service.TaskBulkDeleteService;
 import hexlet.code.service.TaskService;
+import hexlet.code.util.ETagUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -28,18 +49,67 @@ import java.util.List;
 @Validated
 public class TaskController {
     private final TaskService taskService;
+    private final TaskBulkDeleteService taskBulkDeleteService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<TaskResponseDTO>> getAllTasks(TaskFilterDTO filter) {
-        List<TaskResponseDTO> tasks = taskService.getAllTasks(filter);
+    public ResponseEntity<List<TaskResponseDTO>> getAllTasks(
+            TaskFilterDTO filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (cursor == null && limit == null) {
+            List<TaskResponseDTO> tasks = taskService.getAllTasks(filter);
+            return ResponseEntity.ok()
+                    .header("X-Total-Count", String.valueOf(tasks.size()))
+                    .body(tasks);
+        }
+
+        TaskPageDTO page = taskService.getTasksPage(filter, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(page.getTotalCount()));
+        if (page.getNextCursor() != null) {
+            response.header("X-Next-Cursor", page.getNextCursor());
+        }
+        return response.body(page.getTasks());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks(TaskFilterDTO filter) {
+        ObjectWriter writer = objectMapper.writerFor(TaskResponseDTO.class);
+        StreamingResponseBody body = outputStream -> {
+            taskService.exportTasks(filter, task -> {
+                try {
+                    outputStream.write(writer.writeValueAsBytes(task));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            outputStream.flush();
+        };
+
         return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(tasks.size()))
-                .body(tasks);
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{id}")
-    public TaskResponseDTO getTaskById(@PathVariable Long id) {
-        return taskService.getTaskById(id);
+    public ResponseEntity<TaskResponseDTO> getTaskById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String etag = ETagUtils.ofVersion(taskService.getTaskVersion(id));
+            if (ETagUtils.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .build();
+            }
+        }
+
+        TaskResponseDTO task = taskService.getTaskById(id);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.ofVersion(task.getVersion()))
+                .body(task);
     }
 
     @PostMapping
@@ -48,11 +118,58 @@ public class TaskController {
         return taskService.createTask(taskCreateDTO);
     }
 
+    @PostMapping("/batch")
+    public TaskBatchResultDTO createTasks(@RequestBody List<TaskCreateDTO> taskCreateDTOs) {
+        return taskService.createTasks(taskCreateDTOs);
+    }
+
+    @PostMapping("/{id}/move")
+    public ResponseEntity<TaskResponseDTO> moveTask(
+            @PathVariable Long id,
+            @RequestBody TaskMoveDTO taskMoveDTO) {
+        TaskResponseDTO task = taskService.moveTask(id, taskMoveDTO);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.ofVersion(task.getVersion()))
+                .body(task);
+    }
+
+    @PatchMapping("/bulk/status")
+    public TaskBulkResultDTO updateTasksStatus(@Valid @RequestBody TaskBulkStatusDTO taskBulkStatusDTO) {
+        return taskService.updateTasksStatus(taskBulkStatusDTO);
+    }
+
+    @PatchMapping("/bulk/assignee")
+    public TaskBulkResultDTO updateTasksAssignee(@Valid @RequestBody TaskBulkAssigneeDTO taskBulkAssigneeDTO) {
+        return taskService.updateTasksAssignee(taskBulkAssigneeDTO);
+    }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<TaskBulkDeleteJobDTO> deleteTasks(
+            @RequestBody TaskFilterDTO filter,
+            @RequestParam(defaultValue = "false") boolean background) {
+        TaskBulkDeleteJobDTO job = taskBulkDeleteService.deleteTasks(filter, background);
+        if (!background) {
+            return ResponseEntity.ok(job);
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/tasks/bulk/delete/" + job.getId()))
+                .body(job);
+    }
+
+    @GetMapping("/bulk/delete/{jobId}")
+    public TaskBulkDeleteJobDTO getBulkDeleteJob(@PathVariable String jobId) {
+        return taskBulkDeleteService.getJob(jobId);
+    }
+
     @PutMapping("/{id}")
-    public TaskResponseDTO updateTask(
+    public ResponseEntity<TaskResponseDTO> updateTask(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskUpdateDTO taskUpdateDTO) {
-        return taskService.updateTask(id, taskUpdateDTO);
+        TaskResponseDTO task = taskService.updateTask(id, taskUpdateDTO, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.ofVersion(task.getVersion()))
+                .body(task);
     }
 
     @DeleteMapping("/{id}")
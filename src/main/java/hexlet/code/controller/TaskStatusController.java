@@ -1,12 +1,16 @@
 package hexlet.code.controller;
 
+import hexlet.code.cache.SerializedList;
 import hexlet.code.dto.TaskStatus.TaskStatusCreateDTO;
 import hexlet.code.dto.TaskStatus.TaskStatusResponseDTO;
 import hexlet.code.dto.TaskStatus.TaskStatusUpdateDTO;
 import hexlet.code.service.TaskStatusService;
+import hexlet.code.util.ETagUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,12 +19,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/task_statuses")
 @RequiredArgsConstructor
@@ -29,11 +32,19 @@ public class TaskStatusController {
     private final TaskStatusService taskStatusService;
 
     @GetMapping
-    public ResponseEntity<List<TaskStatusResponseDTO>> getAllTaskStatuses() {
-        List<TaskStatusResponseDTO> taskStatuses = taskStatusService.getAllTaskStatuses();
+    public ResponseEntity<byte[]> getAllTaskStatuses(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SerializedList taskStatuses = taskStatusService.getTaskStatusList();
+        if (ETagUtils.matches(ifNoneMatch, taskStatuses.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(taskStatuses.getEtag())
+                    .build();
+        }
         return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(taskStatuses.size()))
-                .body(taskStatuses);
+                .eTag(taskStatuses.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Total-Count", String.valueOf(taskStatuses.getCount()))
+                .body(taskStatuses.getBody());
     }
 
     @GetMapping("/{id}")
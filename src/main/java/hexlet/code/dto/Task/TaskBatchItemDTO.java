@@ -0,0 +1,14 @@
+package hexlet.code.dto.Task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBatchItemDTO {
+    private int index;
+    private TaskResponseDTO task;
+    private String error;
+}
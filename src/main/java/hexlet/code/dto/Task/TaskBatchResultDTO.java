@@ -0,0 +1,16 @@
+package hexlet.code.dto.Task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBatchResultDTO {
+    private int created;
+    private int failed;
+    private List<TaskBatchItemDTO> items;
+}
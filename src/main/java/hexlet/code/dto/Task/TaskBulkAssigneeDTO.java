@@ -0,0 +1,16 @@
+package hexlet.code.dto.Task;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.Set;
+
+@Data
+public class TaskBulkAssigneeDTO {
+    private Set<Long> ids;
+
+    private TaskFilterDTO filter;
+
+    @NotNull
+    private Long assigneeId;
+}
@@ -0,0 +1,27 @@
+package hexlet.code.dto.Task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkDeleteJobDTO {
+    private String id;
+    private Status status;
+    private int deleted;
+    private int chunks;
+    private String error;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
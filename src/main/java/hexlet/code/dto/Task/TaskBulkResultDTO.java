@@ -0,0 +1,12 @@
+package hexlet.code.dto.Task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkResultDTO {
+    private int affected;
+}
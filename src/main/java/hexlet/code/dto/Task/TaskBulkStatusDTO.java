@@ -0,0 +1,16 @@
+package hexlet.code.dto.Task;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+import java.util.Set;
+
+@Data
+public class TaskBulkStatusDTO {
+    private Set<Long> ids;
+
+    private TaskFilterDTO filter;
+
+    @NotBlank
+    private String status;
+}
@@ -1,8 +1,11 @@
 package hexlet.code.dto.Task;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Set;
+
 @Getter
 @Setter
 public class TaskFilterDTO {
@@ -10,4 +13,21 @@ public class TaskFilterDTO {
     private Long assigneeId;
     private String status;
     private Long labelId;
+    private Set<Long> labelIds;
+    private String labelMode;
+    private String search;
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return isBlank(titleCont)
+            && assigneeId == null
+            && isBlank(status)
+            && labelId == null
+            && (labelIds == null || labelIds.isEmpty())
+            && isBlank(search);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
 }
@@ -0,0 +1,12 @@
+package hexlet.code.dto.Task;
+
+import lombok.Data;
+
+@Data
+public class TaskMoveDTO {
+    private Long beforeId;
+
+    private Long afterId;
+
+    private String status;
+}
@@ -0,0 +1,16 @@
+package hexlet.code.dto.Task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskPageDTO {
+    private List<TaskResponseDTO> tasks;
+    private String nextCursor;
+    private long totalCount;
+}
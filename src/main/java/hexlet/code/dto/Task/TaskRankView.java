@@ -0,0 +1,7 @@
+package hexlet.code.dto.Task;
+
+public interface TaskRankView {
+    Long getId();
+    Long getTaskStatusId();
+    String getBoardRank();
+}
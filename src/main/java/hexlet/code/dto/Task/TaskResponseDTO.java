@@ -1,5 +1,6 @@
 package hexlet.code.dto.Task;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
@@ -17,4 +18,6 @@ public class TaskResponseDTO {
     private String content;
     private String status;
     private Set<Long> taskLabelIds;
+    @JsonIgnore
+    private Long version;
 }
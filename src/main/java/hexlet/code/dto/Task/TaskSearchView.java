@@ -0,0 +1,7 @@
+package hexlet.code.dto.Task;
+
+public interface TaskSearchView {
+    Long getId();
+    String getTitle();
+    String getContent();
+}
@@ -0,0 +1,7 @@
+package hexlet.code.exception;
+
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,72 @@
+package hexlet.code.filter;
+
+import hexlet.code.metrics.RequestMetrics;
+import hexlet.code.metrics.ServerTimingResponseBodyAdvice;
+import hexlet.code.util.RequestMetricsProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    private final RequestMetricsProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestMetrics metrics = RequestMetrics.start();
+        request.setAttribute(RequestMetrics.ATTRIBUTE, metrics);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestMetrics.clear();
+            if (properties.isServerTiming()
+                    && !response.isCommitted()
+                    && !response.containsHeader(ServerTimingResponseBodyAdvice.SERVER_TIMING_HEADER)) {
+                response.setHeader(ServerTimingResponseBodyAdvice.SERVER_TIMING_HEADER, metrics.toServerTiming());
+            }
+            logIfOverBudget(request, response, metrics);
+        }
+    }
+
+    private void logIfOverBudget(HttpServletRequest request, HttpServletResponse response, RequestMetrics metrics) {
+        Duration elapsed = Duration.ofNanos(metrics.getElapsedNanos());
+        if (metrics.getStatements() <= properties.getStatementBudget()
+                && elapsed.compareTo(properties.getTimeBudget()) <= 0) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        log.warn("{} {} exceeded request budget: status={}, statements={} (budget {}), total={}ms (budget {}ms), "
+                + "db={}ms, mapping={}ms, serialization={}ms",
+            request.getMethod(),
+            pattern == null ? request.getRequestURI() : pattern,
+            response.getStatus(),
+            metrics.getStatements(),
+            properties.getStatementBudget(),
+            elapsed.toMillis(),
+            properties.getTimeBudget().toMillis(),
+            Duration.ofNanos(metrics.getDbNanos()).toMillis(),
+            Duration.ofNanos(metrics.getMappingNanos()).toMillis(),
+            Duration.ofNanos(metrics.getSerializationNanos()).toMillis());
+    }
+}
@@ -26,6 +26,7 @@ public interface TaskMapper {
     List<TaskResponseDTO> toResponseDTOList(List<Task> tasks);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "taskStatus", ignore = true)
     @Mapping(target = "assignee", ignore = true)
@@ -33,6 +34,7 @@ public interface TaskMapper {
     Task toEntity(TaskCreateDTO taskCreateDTO);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "taskStatus", ignore = true)
     @Mapping(target = "assignee", ignore = true)
@@ -0,0 +1,26 @@
+package hexlet.code.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class MappingTimingAspect {
+    @Around("execution(public * hexlet.code.mapper.*.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics == null) {
+            return joinPoint.proceed();
+        }
+
+        boolean outermost = metrics.enterMapping();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            metrics.exitMapping(outermost, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package hexlet.code.metrics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Locale;
+
+@Getter
+public final class RequestMetrics {
+    public static final String ATTRIBUTE = RequestMetrics.class.getName();
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long startedAt = System.nanoTime();
+    private int statements;
+    private long dbNanos;
+    private long mappingNanos;
+    private long serializationNanos;
+    @Getter(AccessLevel.NONE)
+    private int mappingDepth;
+
+    private RequestMetrics() {
+    }
+
+    public static RequestMetrics start() {
+        RequestMetrics metrics = new RequestMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    public static RequestMetrics current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public void onStatement() {
+        statements++;
+    }
+
+    public void addDbTime(long nanos) {
+        dbNanos += nanos;
+    }
+
+    public void addSerializationTime(long nanos) {
+        serializationNanos += nanos;
+    }
+
+    public boolean enterMapping() {
+        return mappingDepth++ == 0;
+    }
+
+    public void exitMapping(boolean outermost, long nanos) {
+        mappingDepth--;
+        if (outermost) {
+            mappingNanos += nanos;
+        }
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    public String toServerTiming() {
+        return String.format(Locale.ROOT,
+            "db;desc=\"%d statements\";dur=%.1f, mapping;dur=%.1f, total;dur=%.1f",
+            statements,
+            dbNanos / NANOS_PER_MILLI,
+            mappingNanos / NANOS_PER_MILLI,
+            getElapsedNanos() / NANOS_PER_MILLI);
+    }
+
+    public String toSerializationTiming() {
+        return String.format(Locale.ROOT, "serialization;dur=%.1f", serializationNanos / NANOS_PER_MILLI);
+    }
+}
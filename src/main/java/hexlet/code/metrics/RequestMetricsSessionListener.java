@@ -0,0 +1,49 @@
+package hexlet.code.metrics;
+
+import org.hibernate.SessionEventListener;
+
+public class RequestMetricsSessionListener implements SessionEventListener {
+    private long prepareStartedAt;
+    private long executeStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        prepareStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        addDbTime(prepareStartedAt, false);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        addDbTime(executeStartedAt, true);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        addDbTime(batchStartedAt, true);
+    }
+
+    private static void addDbTime(long startedAt, boolean roundTrip) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics != null) {
+            if (roundTrip) {
+                metrics.onStatement();
+            }
+            metrics.addDbTime(System.nanoTime() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package hexlet.code.metrics;
+
+import hexlet.code.util.RequestMetricsProperties;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Map;
+
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ServerTimingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final RequestMetricsProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isServerTiming();
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics == null) {
+            return body;
+        }
+
+        response.getHeaders().set(SERVER_TIMING_HEADER, metrics.toServerTiming());
+        if (response instanceof ServletServerHttpResponse servletResponse) {
+            addSerializationTrailer(servletResponse.getServletResponse(), response.getHeaders(), metrics);
+        }
+        return body;
+    }
+
+    private static void addSerializationTrailer(
+            HttpServletResponse servletResponse,
+            HttpHeaders headers,
+            RequestMetrics metrics) {
+        try {
+            servletResponse.setTrailerFields(() -> Map.of(SERVER_TIMING_HEADER, metrics.toSerializationTiming()));
+            headers.set(HttpHeaders.TRAILER, SERVER_TIMING_HEADER);
+        } catch (IllegalStateException e) {
+            // trailers are unavailable on HTTP/1.0 and once the response is committed
+        }
+    }
+}
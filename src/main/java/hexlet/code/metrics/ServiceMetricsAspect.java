@@ -0,0 +1,97 @@
+package hexlet.code.metrics;
+
+import hexlet.code.service.LabelService;
+import hexlet.code.service.TaskService;
+import hexlet.code.service.TaskStatusService;
+import hexlet.code.service.UserService;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+    public static final String METRIC_NAME = "service.method";
+
+    private static final List<Class<?>> SERVICES = List.of(
+        TaskService.class,
+        UserService.class,
+        LabelService.class,
+        TaskStatusService.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.clock = meterRegistry.config().clock();
+    }
+
+    @Around("execution(public * hexlet.code.service.TaskService.*(..))"
+        + " || execution(public * hexlet.code.service.UserService.*(..))"
+        + " || execution(public * hexlet.code.service.LabelService.*(..))"
+        + " || execution(public * hexlet.code.service.TaskStatusService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodTimers methodTimers = timers.computeIfAbsent(method, this::register);
+        long start = clock.monotonicTime();
+        try {
+            Object result = joinPoint.proceed();
+            methodTimers.success.record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodTimers.failure(e.getClass()).record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private MethodTimers register(Method method) {
+        String service = SERVICES.stream()
+            .filter(type -> type.isAssignableFrom(method.getDeclaringClass()))
+            .map(Class::getSimpleName)
+            .findFirst()
+            .orElse(method.getDeclaringClass().getSimpleName());
+        return new MethodTimers(service, method.getName());
+    }
+
+    private final class MethodTimers {
+        private final String service;
+        private final String method;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        private MethodTimers(String service, String method) {
+            this.service = service;
+            this.method = method;
+            this.success = timer("success", "none");
+        }
+
+        private Timer failure(Class<?> exceptionType) {
+            return failures.computeIfAbsent(exceptionType, type -> timer("error", type.getSimpleName()));
+        }
+
+        private Timer timer(String outcome, String exception) {
+            return Timer.builder(METRIC_NAME)
+                .tag("service", service)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -25,6 +26,7 @@ import java.util.Set;
 @Entity
 @Table(name = "labels")
 @EntityListeners(AuditingEntityListener.class)
+@BatchSize(size = 100)
 public class Label {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
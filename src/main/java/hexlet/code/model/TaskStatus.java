@@ -12,6 +12,7 @@ import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -22,6 +23,7 @@ import java.time.LocalDate;
 @Entity
 @Table(name = "task_statuses")
 @EntityListeners(AuditingEntityListener.class)
+@BatchSize(size = 100)
 public class TaskStatus {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,13 +1,83 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.Task.TaskRankView;
+import hexlet.code.dto.Task.TaskSearchView;
 import hexlet.code.model.Task;
+import hexlet.code.model.User;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
     boolean existsByAssigneeId(Long assigneeId);
     boolean existsByTaskStatusId(Long taskStatusId);
     boolean existsByLabelsId(Long labelId);
+    List<TaskSearchView> findAllProjectedBy();
+
+    @Query("select t.version from Task t where t.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    @Query("""
+        select t.id as id, t.taskStatus.id as taskStatusId, t.boardRank as boardRank
+        from Task t where t.id in :ids""")
+    List<TaskRankView> findRanksByIdIn(Collection<Long> ids);
+
+    @Query("""
+        select t.id as id, t.taskStatus.id as taskStatusId, t.boardRank as boardRank
+        from Task t where t.taskStatus.id = :taskStatusId order by t.id""")
+    List<TaskRankView> findRanksByTaskStatusId(Long taskStatusId);
+
+    @Query("select distinct t.taskStatus.id from Task t where t.boardRank is null")
+    List<Long> findTaskStatusIdsWithoutRank();
+
+    @Query("select max(t.boardRank) from Task t where t.taskStatus.id = :taskStatusId")
+    Optional<String> findMaxBoardRank(Long taskStatusId);
+
+    @Query("select max(t.boardRank) from Task t where t.taskStatus.id = :taskStatusId and t.id <> :excludedId")
+    Optional<String> findMaxBoardRankExcluding(Long taskStatusId, Long excludedId);
+
+    @Query("""
+        select max(t.boardRank) from Task t
+        where t.taskStatus.id = :taskStatusId and t.boardRank < :rank and t.id <> :excludedId""")
+    Optional<String> findMaxBoardRankBelow(Long taskStatusId, String rank, Long excludedId);
+
+    @Query("""
+        select min(t.boardRank) from Task t
+        where t.taskStatus.id = :taskStatusId and t.boardRank > :rank and t.id <> :excludedId""")
+    Optional<String> findMinBoardRankAbove(Long taskStatusId, String rank, Long excludedId);
+
+    @Query("""
+        select t.taskStatus.id, max(t.boardRank) from Task t
+        where t.taskStatus.id in :taskStatusIds group by t.taskStatus.id""")
+    List<Object[]> findMaxBoardRanks(Collection<Long> taskStatusIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.assignee = :assignee, t.version = t.version + 1 where t.id in :ids")
+    int updateAssignee(Collection<Long> ids, User assignee);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from task_labels where task_id in (:ids)", nativeQuery = true)
+    int deleteLabelLinks(Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.id in :ids")
+    int deleteByIds(Collection<Long> ids);
+
+    @Override
+    @EntityGraph(attributePaths = {"taskStatus", "assignee"})
+    List<Task> findAll(Specification<Task> spec);
+
+    @Override
+    @EntityGraph(attributePaths = {"taskStatus", "assignee", "labels"})
+    Optional<Task> findById(Long id);
 }
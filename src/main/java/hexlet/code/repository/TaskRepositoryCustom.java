@@ -0,0 +1,17 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.Task.TaskResponseDTO;
+import hexlet.code.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public interface TaskRepositoryCustom {
+    List<Long> findIds(Specification<Task> spec, Integer limit);
+    List<TaskResponseDTO> findResponseRows(Specification<Task> spec, Integer limit, boolean rankOrder);
+    int updateBoardRanks(Map<Long, String> ranks);
+    int moveToStatus(Map<Long, String> ranks, Long taskStatusId);
+    void streamResponseRows(Specification<Task> spec, int fetchSize, Consumer<TaskResponseDTO> consumer);
+}
@@ -0,0 +1,197 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.Task.TaskResponseDTO;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    private static final int LABEL_CHUNK_SIZE = 1000;
+    private static final int RANK_BATCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Task> spec, Integer limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(root.<Long>get("id"))
+            .where(spec.toPredicate(root, query, criteriaBuilder))
+            .orderBy(criteriaBuilder.asc(root.get("id")));
+
+        TypedQuery<Long> typedQuery = entityManager.createQuery(query);
+        if (limit != null) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public List<TaskResponseDTO> findResponseRows(Specification<Task> spec, Integer limit, boolean rankOrder) {
+        TypedQuery<Tuple> query = entityManager.createQuery(buildRowQuery(spec, rankOrder));
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+
+        List<TaskResponseDTO> rows = new ArrayList<>();
+        for (Tuple tuple : query.getResultList()) {
+            rows.add(toRow(tuple));
+        }
+
+        attachLabelIds(rows);
+        return rows;
+    }
+
+    @Override
+    public int updateBoardRanks(Map<Long, String> ranks) {
+        entityManager.flush();
+        List<Object[]> rows = new ArrayList<>(ranks.size());
+        ranks.forEach((id, rank) -> rows.add(new Object[] {rank, id}));
+
+        int updated = 0;
+        for (int from = 0; from < rows.size(); from += RANK_BATCH_SIZE) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + RANK_BATCH_SIZE, rows.size()));
+            for (int count : jdbcTemplate.batchUpdate("update tasks set board_rank = ? where id = ?", chunk)) {
+                updated += Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public int moveToStatus(Map<Long, String> ranks, Long taskStatusId) {
+        if (ranks.isEmpty()) {
+            return 0;
+        }
+
+        entityManager.flush();
+        StringBuilder sql = new StringBuilder(
+            "update tasks set task_status_id = :taskStatusId, version = version + 1, board_rank = case id");
+        for (int i = 0; i < ranks.size(); i++) {
+            sql.append(" when :id").append(i).append(" then :rank").append(i);
+        }
+        sql.append(" end where id in (:ids)");
+
+        Query query = entityManager.createNativeQuery(sql.toString())
+            .setParameter("taskStatusId", taskStatusId)
+            .setParameter("ids", ranks.keySet());
+        int i = 0;
+        for (Map.Entry<Long, String> rank : ranks.entrySet()) {
+            query.setParameter("id" + i, rank.getKey());
+            query.setParameter("rank" + i, rank.getValue());
+            i++;
+        }
+        int updated = query.executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    @Override
+    public void streamResponseRows(Specification<Task> spec, int fetchSize, Consumer<TaskResponseDTO> consumer) {
+        TypedQuery<Tuple> query = entityManager.createQuery(buildRowQuery(spec, false))
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true);
+
+        List<TaskResponseDTO> chunk = new ArrayList<>(fetchSize);
+        try (Stream<Tuple> tuples = query.getResultStream()) {
+            tuples.forEach(tuple -> {
+                chunk.add(toRow(tuple));
+                if (chunk.size() == fetchSize) {
+                    flushChunk(chunk, consumer);
+                }
+            });
+        }
+        flushChunk(chunk, consumer);
+    }
+
+    private void flushChunk(List<TaskResponseDTO> chunk, Consumer<TaskResponseDTO> consumer) {
+        attachLabelIds(chunk);
+        chunk.forEach(consumer);
+        chunk.clear();
+    }
+
+    private CriteriaQuery<Tuple> buildRowQuery(Specification<Task> spec, boolean rankOrder) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        Join<Task, TaskStatus> taskStatus = root.join("taskStatus");
+        Join<Task, User> assignee = root.join("assignee", JoinType.LEFT);
+
+        query.multiselect(
+            root.get("id").alias("id"),
+            root.get("index").alias("index"),
+            root.get("createdAt").alias("createdAt"),
+            assignee.get("id").alias("assigneeId"),
+            root.get("title").alias("title"),
+            root.get("content").alias("content"),
+            taskStatus.get("slug").alias("status")
+        );
+        query.where(spec.toPredicate(root, query, criteriaBuilder));
+        if (rankOrder) {
+            query.orderBy(criteriaBuilder.asc(root.get("boardRank")), criteriaBuilder.asc(root.get("id")));
+        } else {
+            query.orderBy(criteriaBuilder.asc(root.get("id")));
+        }
+        return query;
+    }
+
+    private TaskResponseDTO toRow(Tuple tuple) {
+        TaskResponseDTO row = new TaskResponseDTO();
+        row.setId(tuple.get("id", Long.class));
+        row.setIndex(tuple.get("index", Integer.class));
+        row.setCreatedAt(tuple.get("createdAt", LocalDate.class));
+        row.setAssigneeId(tuple.get("assigneeId", Long.class));
+        row.setTitle(tuple.get("title", String.class));
+        row.setContent(tuple.get("content", String.class));
+        row.setStatus(tuple.get("status", String.class));
+        row.setTaskLabelIds(new HashSet<>());
+        return row;
+    }
+
+    private void attachLabelIds(List<TaskResponseDTO> rows) {
+        Map<Long, TaskResponseDTO> rowsById = new HashMap<>();
+        for (TaskResponseDTO row : rows) {
+            rowsById.put(row.getId(), row);
+        }
+
+        List<Long> taskIds = new ArrayList<>(rowsById.keySet());
+        for (int from = 0; from < taskIds.size(); from += LABEL_CHUNK_SIZE) {
+            List<Long> chunk = taskIds.subList(from, Math.min(from + LABEL_CHUNK_SIZE, taskIds.size()));
+            entityManager.createQuery(
+                    "select t.id, l.id from Task t join t.labels l where t.id in :taskIds", Object[].class)
+                .setParameter("taskIds", chunk)
+                .getResultList()
+                .forEach(pair -> rowsById.get((Long) pair[0]).getTaskLabelIds().add((Long) pair[1]));
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package hexlet.code.repository;
 
 import hexlet.code.model.TaskStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long> {
     Optional<TaskStatus> findBySlug(String slug);
+    List<TaskStatus> findBySlugIn(Collection<String> slugs);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from TaskStatus s where s.id in :ids order by s.id")
+    List<TaskStatus> lockAllById(Collection<Long> ids);
 }
@@ -0,0 +1,90 @@
+package hexlet.code.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hexlet.code.exception.TooManyRequestsException;
+import hexlet.code.util.LoginProtectionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+@Component
+public class LoginRateLimiter {
+    private static final String LIMITED_MESSAGE = "Too many login attempts, retry later";
+
+    private final LoginProtectionProperties.RateLimit properties;
+    private final Cache<String, Bucket> buckets;
+    private final Object[] stripes;
+    private final Counter clientRejections;
+    private final Counter usernameRejections;
+
+    public LoginRateLimiter(LoginProtectionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.getRateLimit();
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(this.properties.getMaximumKeys())
+            .expireAfterAccess(this.properties.getRefillPeriod())
+            .build();
+        this.stripes = new Object[Math.max(1, this.properties.getStripes())];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Object();
+        }
+        this.clientRejections = Counter.builder("auth.login.rate_limited")
+            .tag("key", "client")
+            .register(meterRegistry);
+        this.usernameRejections = Counter.builder("auth.login.rate_limited")
+            .tag("key", "username")
+            .register(meterRegistry);
+    }
+
+    public void checkLogin(String clientAddress, String username) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Duration clientWait = tryAcquire("client:" + clientAddress, properties.getClientCapacity());
+        if (clientWait != null) {
+            clientRejections.increment();
+            throw new TooManyRequestsException(LIMITED_MESSAGE, clientWait);
+        }
+
+        String normalizedUsername = username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+        Duration usernameWait = tryAcquire("username:" + normalizedUsername, properties.getUsernameCapacity());
+        if (usernameWait != null) {
+            usernameRejections.increment();
+            throw new TooManyRequestsException(LIMITED_MESSAGE, usernameWait);
+        }
+    }
+
+    private Duration tryAcquire(String key, int capacity) {
+        long refillNanos = properties.getRefillPeriod().toNanos();
+        synchronized (stripes[Math.floorMod(key.hashCode(), stripes.length)]) {
+            long now = System.nanoTime();
+            Bucket bucket = buckets.get(key, k -> new Bucket(capacity, now));
+            bucket.refill(now, capacity, refillNanos);
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return null;
+            }
+            return Duration.ofNanos((long) ((1 - bucket.tokens) * refillNanos / capacity));
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        private void refill(long now, int capacity, long refillNanos) {
+            double refilled = (double) (now - refilledAt) * capacity / refillNanos;
+            tokens = Math.min(capacity, tokens + refilled);
+            refilledAt = now;
+        }
+    }
+}
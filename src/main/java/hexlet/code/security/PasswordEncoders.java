@@ -0,0 +1,44 @@
+package hexlet.code.security;
+
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class PasswordEncoders {
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+
+    private PasswordEncoders() {
+    }
+
+    public static PasswordEncoder delegating(PasswordHashingAlgorithm algorithm, int cost) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        for (PasswordHashingAlgorithm candidate : PasswordHashingAlgorithm.values()) {
+            int candidateCost = candidate == algorithm ? cost : candidate.getDefaultCost();
+            encoders.put(candidate.getId(), candidate.encoder(candidateCost));
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm.getId(), encoders);
+        encoder.setDefaultPasswordEncoderForMatches(encoders.get(PasswordHashingAlgorithm.BCRYPT.getId()));
+        return encoder;
+    }
+
+    public static int calibrate(PasswordHashingAlgorithm algorithm, int minimumCost, Duration target) {
+        Duration measured = measure(algorithm.encoder(minimumCost));
+        return algorithm.scaleCost(minimumCost, measured, target);
+    }
+
+    public static Duration measure(PasswordEncoder encoder) {
+        encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return Duration.ofNanos(best);
+    }
+}
@@ -0,0 +1,66 @@
+package hexlet.code.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+@Getter
+@RequiredArgsConstructor
+public enum PasswordHashingAlgorithm {
+    BCRYPT("bcrypt", 10, 4, 16) {
+        @Override
+        public PasswordEncoder encoder(int cost) {
+            return new BCryptPasswordEncoder(cost);
+        }
+
+        @Override
+        public int scaleCost(int measuredCost, Duration measured, Duration target) {
+            int cost = measuredCost;
+            long nanos = measured.toNanos();
+            while (cost < getMaximumCost() && nanos * 2 <= target.toNanos()) {
+                cost++;
+                nanos *= 2;
+            }
+            return cost;
+        }
+    },
+    ARGON2("argon2", 2, 1, 64) {
+        private static final int SALT_LENGTH = 16;
+        private static final int HASH_LENGTH = 32;
+        private static final int PARALLELISM = 1;
+        private static final int MEMORY_KIB = 1 << 14;
+
+        @Override
+        public PasswordEncoder encoder(int cost) {
+            return new Argon2PasswordEncoder(SALT_LENGTH, HASH_LENGTH, PARALLELISM, MEMORY_KIB, cost);
+        }
+
+        @Override
+        public int scaleCost(int measuredCost, Duration measured, Duration target) {
+            double scale = (double) target.toNanos() / Math.max(1, measured.toNanos());
+            long cost = Math.round(measuredCost * scale);
+            return (int) Math.min(getMaximumCost(), Math.max(measuredCost, cost));
+        }
+    };
+
+    private final String id;
+    private final int defaultCost;
+    private final int minimumCost;
+    private final int maximumCost;
+
+    public int validateCost(int cost) {
+        if (cost < minimumCost || cost > maximumCost) {
+            throw new IllegalArgumentException("Cost " + cost + " for " + id
+                + " must be between " + minimumCost + " and " + maximumCost);
+        }
+        return cost;
+    }
+
+    public abstract PasswordEncoder encoder(int cost);
+
+    public abstract int scaleCost(int measuredCost, Duration measured, Duration target);
+}
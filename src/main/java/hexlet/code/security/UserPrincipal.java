@@ -0,0 +1,15 @@
+package hexlet.code.security;
+
+import lombok.Value;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+@Value
+public class UserPrincipal implements AuthenticatedPrincipal {
+    private final Long id;
+    private final String email;
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,34 @@
+package hexlet.code.security;
+
+import hexlet.code.util.JwtUtils;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserPrincipalConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+    private final JwtGrantedAuthoritiesConverter authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        UserPrincipal principal = new UserPrincipal(userId(jwt), jwt.getSubject());
+        return new UserPrincipalAuthenticationToken(jwt, principal, authoritiesConverter.convert(jwt));
+    }
+
+    private static Long userId(Jwt jwt) {
+        Object claim = jwt.getClaims().get(JwtUtils.USER_ID_CLAIM);
+        if (claim instanceof Number number) {
+            return number.longValue();
+        }
+        if (claim instanceof String value && !value.isBlank()) {
+            try {
+                return Long.valueOf(value);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package hexlet.code.service;
 
+import hexlet.code.cache.SerializedList;
 import hexlet.code.dto.Label.LabelCreateDTO;
 import hexlet.code.dto.Label.LabelResponseDTO;
 import hexlet.code.dto.Label.LabelUpdateDTO;
@@ -8,6 +9,7 @@ import java.util.List;
 
 public interface LabelService {
     List<LabelResponseDTO> getAllLabels();
+    SerializedList getLabelList();
     LabelResponseDTO getLabelById(Long id);
     LabelResponseDTO createLabel(LabelCreateDTO labelCreateDTO);
     LabelResponseDTO updateLabel(Long id, LabelUpdateDTO labelUpdateDTO);
@@ -0,0 +1,9 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.Task.TaskBulkDeleteJobDTO;
+import hexlet.code.dto.Task.TaskFilterDTO;
+
+public interface TaskBulkDeleteService {
+    TaskBulkDeleteJobDTO deleteTasks(TaskFilterDTO filter, boolean background);
+    TaskBulkDeleteJobDTO getJob(String jobId);
+}
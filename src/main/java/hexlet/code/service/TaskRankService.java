@@ -0,0 +1,6 @@
+package hexlet.code.service;
+
+public interface TaskRankService {
+    void rebalance(Long taskStatusId);
+    void scheduleRebalance(Long taskStatusId);
+}
@@ -0,0 +1,19 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.Task.TaskFilterDTO;
+
+import java.util.List;
+
+public interface TaskSearchService {
+    List<Long> search(String query);
+    void index(Long taskId, String title, String content);
+    void remove(Long taskId);
+
+    default List<Long> search(TaskFilterDTO filter) {
+        String search = filter.getSearch();
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        return search(search);
+    }
+}
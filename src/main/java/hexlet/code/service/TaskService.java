@@ -1,16 +1,30 @@
 package hexlet.code.service;
 
+import hexlet.code.dto.Task.TaskBatchResultDTO;
+import hexlet.code.dto.Task.TaskBulkAssigneeDTO;
+import hexlet.code.dto.Task.TaskBulkResultDTO;
+import hexlet.code.dto.Task.TaskBulkStatusDTO;
 import hexlet.code.dto.Task.TaskCreateDTO;
 import hexlet.code.dto.Task.TaskFilterDTO;
+import hexlet.code.dto.Task.TaskMoveDTO;
+import hexlet.code.dto.Task.TaskPageDTO;
 import hexlet.code.dto.Task.TaskResponseDTO;
 import hexlet.code.dto.Task.TaskUpdateDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TaskService {
     List<TaskResponseDTO> getAllTasks(TaskFilterDTO filter);
+    TaskPageDTO getTasksPage(TaskFilterDTO filter, String cursor, Integer limit);
+    void exportTasks(TaskFilterDTO filter, Consumer<TaskResponseDTO> consumer);
     TaskResponseDTO getTaskById(Long id);
+    Long getTaskVersion(Long id);
     TaskResponseDTO createTask(TaskCreateDTO taskCreateDTO);
-    TaskResponseDTO updateTask(Long id, TaskUpdateDTO taskUpdateDTO);
+    TaskBatchResultDTO createTasks(List<TaskCreateDTO> taskCreateDTOs);
+    TaskResponseDTO updateTask(Long id, TaskUpdateDTO taskUpdateDTO, String ifMatch);
+    TaskResponseDTO moveTask(Long id, TaskMoveDTO taskMoveDTO);
+    TaskBulkResultDTO updateTasksStatus(TaskBulkStatusDTO taskBulkStatusDTO);
+    TaskBulkResultDTO updateTasksAssignee(TaskBulkAssigneeDTO taskBulkAssigneeDTO);
     void deleteTask(Long id);
 }
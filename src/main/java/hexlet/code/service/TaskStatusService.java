@@ -1,5 +1,6 @@
 package hexlet.code.service;
 
+import hexlet.code.cache.SerializedList;
 import hexlet.code.dto.TaskStatus.TaskStatusCreateDTO;
 import hexlet.code.dto.TaskStatus.TaskStatusResponseDTO;
 import hexlet.code.dto.TaskStatus.TaskStatusUpdateDTO;
@@ -8,6 +9,7 @@ import java.util.List;
 
 public interface TaskStatusService {
     List<TaskStatusResponseDTO> getAllTaskStatuses();
+    SerializedList getTaskStatusList();
     TaskStatusResponseDTO getTaskStatusById(Long id);
     TaskStatusResponseDTO createTaskStatus(TaskStatusCreateDTO taskStatusCreateDTO);
     TaskStatusResponseDTO updateTaskStatus(Long id, TaskStatusUpdateDTO taskStatusUpdateDTO);
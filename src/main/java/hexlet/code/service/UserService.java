@@ -3,11 +3,12 @@ package hexlet.code.service;
 import hexlet.code.dto.User.UserCreateDTO;
 import hexlet.code.dto.User.UserResponseDTO;
 import hexlet.code.dto.User.UserUpdateDTO;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.util.List;
 
-public interface UserService extends UserDetailsService {
+public interface UserService extends UserDetailsService, UserDetailsPasswordService {
     List<UserResponseDTO> getAllUsers();
     UserResponseDTO getUserById(Long id);
     UserResponseDTO createUser(UserCreateDTO userCreateDTO);
@@ -1,5 +1,7 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.cache.ReferenceDataRegistry;
+import hexlet.code.cache.SerializedList;
 import hexlet.code.dto.Label.LabelCreateDTO;
 import hexlet.code.dto.Label.LabelResponseDTO;
 import hexlet.code.dto.Label.LabelUpdateDTO;
@@ -10,6 +12,7 @@ import hexlet.code.repository.LabelRepository;
 import hexlet.code.service.LabelService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -20,12 +23,19 @@ import java.util.List;
 public class LabelServiceImpl implements LabelService {
     private final LabelRepository labelRepository;
     private final LabelMapper labelMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Override
     public List<LabelResponseDTO> getAllLabels() {
         return labelMapper.toResponseDTOList(labelRepository.findAll());
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public SerializedList getLabelList() {
+        return referenceDataRegistry.getLabelList();
+    }
+
     @Override
     public LabelResponseDTO getLabelById(Long id) {
         Label label = labelRepository.findById(id)
@@ -38,6 +48,7 @@ public class LabelServiceImpl implements LabelService {
     public LabelResponseDTO createLabel(LabelCreateDTO labelCreateDTO) {
         Label label = labelMapper.toEntity(labelCreateDTO);
         Label savedLabel = labelRepository.save(label);
+        referenceDataRegistry.onLabelsChanged();
         return labelMapper.toResponseDTO(savedLabel);
     }
 
@@ -48,12 +59,14 @@ public class LabelServiceImpl implements LabelService {
 
         labelMapper.updateEntity(labelUpdateDTO, label);
         Label savedLabel = labelRepository.save(label);
+        referenceDataRegistry.onLabelsChanged();
         return labelMapper.toResponseDTO(savedLabel);
     }
 
     @Override
     public void deleteLabel(Long id) {
         labelRepository.deleteById(id);
+        referenceDataRegistry.onLabelsChanged();
     }
 }
 
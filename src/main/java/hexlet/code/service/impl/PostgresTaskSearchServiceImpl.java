@@ -0,0 +1,48 @@
+package hexlet.code.service.impl;
+
+import hexlet.code.service.TaskSearchService;
+import hexlet.code.util.SearchTokenizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("prod")
+@RequiredArgsConstructor
+public class PostgresTaskSearchServiceImpl implements TaskSearchService {
+    // The document expression must stay identical to idx_tasks_search_weighted in db/postgresql/schema-updates.sql
+    private static final String DOCUMENT = "(setweight(to_tsvector('simple', coalesce(title, '')), 'A')"
+        + " || setweight(to_tsvector('simple', coalesce(description, '')), 'B'))";
+    private static final String SEARCH_SQL = "SELECT id FROM tasks WHERE " + DOCUMENT + " @@ to_tsquery('simple', ?)"
+        + " ORDER BY ts_rank(" + DOCUMENT + ", to_tsquery('simple', ?)) DESC, id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> search(String query) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        String tsQuery = terms.stream()
+            .map(term -> term + ":*")
+            .collect(Collectors.joining(" & "));
+
+        return jdbcTemplate.queryForList(SEARCH_SQL, Long.class, tsQuery, tsQuery);
+    }
+
+    @Override
+    public void index(Long taskId, String title, String content) {
+        // PostgreSQL maintains idx_tasks_search_weighted itself
+    }
+
+    @Override
+    public void remove(Long taskId) {
+        // PostgreSQL maintains idx_tasks_search_weighted itself
+    }
+}
@@ -0,0 +1,174 @@
+package hexlet.code.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hexlet.code.cache.TaskQueryCache;
+import hexlet.code.dto.Task.TaskBulkDeleteJobDTO;
+import hexlet.code.dto.Task.TaskFilterDTO;
+import hexlet.code.exception.InvalidRequestException;
+import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.service.TaskBulkDeleteService;
+import hexlet.code.service.TaskSearchService;
+import hexlet.code.specification.TaskSpecification;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class TaskBulkDeleteServiceImpl implements TaskBulkDeleteService {
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_JOBS = 1000;
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+
+    private final TaskRepository taskRepository;
+    private final TaskSearchService taskSearchService;
+    private final TaskQueryCache taskQueryCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final Cache<String, Job> jobs = Caffeine.newBuilder()
+        .maximumSize(MAX_JOBS)
+        .expireAfterWrite(JOB_RETENTION)
+        .build();
+
+    public TaskBulkDeleteServiceImpl(
+            TaskRepository taskRepository,
+            TaskSearchService taskSearchService,
+            TaskQueryCache taskQueryCache,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.taskRepository = taskRepository;
+        this.taskSearchService = taskSearchService;
+        this.taskQueryCache = taskQueryCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public TaskBulkDeleteJobDTO deleteTasks(TaskFilterDTO filter, boolean background) {
+        if (filter.isEmpty()) {
+            throw new InvalidRequestException("Bulk delete requires at least one filter criterion");
+        }
+
+        Specification<Task> spec = TaskSpecification.buildSpecification(filter);
+        List<Long> rankedIds = taskSearchService.search(filter);
+        Job job = new Job(UUID.randomUUID().toString());
+        jobs.put(job.id, job);
+
+        if (background) {
+            taskExecutor.execute(() -> run(job, spec, rankedIds));
+        } else {
+            run(job, spec, rankedIds);
+        }
+        return job.toDTO();
+    }
+
+    @Override
+    public TaskBulkDeleteJobDTO getJob(String jobId) {
+        Job job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Bulk delete job not found with id: " + jobId);
+        }
+        return job.toDTO();
+    }
+
+    private void run(Job job, Specification<Task> spec, List<Long> searchIds) {
+        job.start();
+        try {
+            if (searchIds == null) {
+                deleteByFilter(job, spec);
+            } else {
+                deleteSearchMatches(job, spec, searchIds);
+            }
+            job.complete();
+        } catch (RuntimeException e) {
+            job.fail(e);
+            throw e;
+        }
+    }
+
+    private void deleteByFilter(Job job, Specification<Task> spec) {
+        Long lastId = null;
+        List<Long> chunk;
+        do {
+            Specification<Task> chunkSpec = spec.and(TaskSpecification.afterId(lastId));
+            chunk = transactionTemplate.execute(status -> deleteChunk(chunkSpec));
+            if (!chunk.isEmpty()) {
+                job.chunkDeleted(chunk.size());
+                lastId = chunk.get(chunk.size() - 1);
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+    }
+
+    private void deleteSearchMatches(Job job, Specification<Task> spec, List<Long> searchIds) {
+        for (int from = 0; from < searchIds.size(); from += CHUNK_SIZE) {
+            Specification<Task> chunkSpec = spec.and(TaskSpecification.byIds(
+                searchIds.subList(from, Math.min(from + CHUNK_SIZE, searchIds.size()))));
+            List<Long> chunk = transactionTemplate.execute(status -> deleteChunk(chunkSpec));
+            if (!chunk.isEmpty()) {
+                job.chunkDeleted(chunk.size());
+            }
+        }
+    }
+
+    private List<Long> deleteChunk(Specification<Task> spec) {
+        List<Long> ids = taskRepository.findIds(spec, CHUNK_SIZE);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        taskRepository.deleteLabelLinks(ids);
+        taskRepository.deleteByIds(ids);
+        ids.forEach(taskSearchService::remove);
+        taskQueryCache.invalidateAll();
+        return ids;
+    }
+
+    private static final class Job {
+        private final String id;
+        private volatile TaskBulkDeleteJobDTO.Status status = TaskBulkDeleteJobDTO.Status.PENDING;
+        private volatile int deleted;
+        private volatile int chunks;
+        private volatile String error;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+
+        private Job(String id) {
+            this.id = id;
+        }
+
+        private void start() {
+            startedAt = Instant.now();
+            status = TaskBulkDeleteJobDTO.Status.RUNNING;
+        }
+
+        private synchronized void chunkDeleted(int count) {
+            deleted += count;
+            chunks++;
+        }
+
+        private void complete() {
+            finishedAt = Instant.now();
+            status = TaskBulkDeleteJobDTO.Status.COMPLETED;
+        }
+
+        private void fail(RuntimeException e) {
+            error = e.getMessage();
+            finishedAt = Instant.now();
+            status = TaskBulkDeleteJobDTO.Status.FAILED;
+        }
+
+        private synchronized TaskBulkDeleteJobDTO toDTO() {
+            return new TaskBulkDeleteJobDTO(id, status, deleted, chunks, error, startedAt, finishedAt);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package hexlet.code.service.impl;
+
+import hexlet.code.cache.TaskQueryCache;
+import hexlet.code.dto.Task.TaskRankView;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.service.TaskRankService;
+import hexlet.code.util.RankUtils;
+import hexlet.code.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class TaskRankServiceImpl implements TaskRankService {
+    private static final Comparator<TaskRankView> RANK_ORDER = Comparator
+        .comparing(TaskRankView::getBoardRank, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(TaskRankView::getId);
+
+    private final TaskRepository taskRepository;
+    private final TaskStatusRepository taskStatusRepository;
+    private final TaskQueryCache taskQueryCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+
+    public TaskRankServiceImpl(
+            TaskRepository taskRepository,
+            TaskStatusRepository taskStatusRepository,
+            TaskQueryCache taskQueryCache,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.taskRepository = taskRepository;
+        this.taskStatusRepository = taskStatusRepository;
+        this.taskQueryCache = taskQueryCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void assignMissingRanks() {
+        taskRepository.findTaskStatusIdsWithoutRank().forEach(this::scheduleRebalance);
+    }
+
+    @Override
+    public void rebalance(Long taskStatusId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            taskStatusRepository.lockAllById(List.of(taskStatusId));
+            List<TaskRankView> tasks = new ArrayList<>(taskRepository.findRanksByTaskStatusId(taskStatusId));
+            tasks.sort(RANK_ORDER);
+
+            List<String> ranks = RankUtils.spread(tasks.size());
+            Map<Long, String> changed = new LinkedHashMap<>();
+            for (int i = 0; i < tasks.size(); i++) {
+                TaskRankView task = tasks.get(i);
+                if (!ranks.get(i).equals(task.getBoardRank())) {
+                    changed.put(task.getId(), ranks.get(i));
+                }
+            }
+            if (!changed.isEmpty()) {
+                taskRepository.updateBoardRanks(changed);
+                taskQueryCache.invalidateAll();
+            }
+        });
+    }
+
+    @Override
+    public void scheduleRebalance(Long taskStatusId) {
+        TransactionUtils.afterCompletion(() -> {
+            if (scheduled.add(taskStatusId)) {
+                taskExecutor.execute(() -> {
+                    try {
+                        rebalance(taskStatusId);
+                    } finally {
+                        scheduled.remove(taskStatusId);
+                    }
+                });
+            }
+        });
+    }
+}
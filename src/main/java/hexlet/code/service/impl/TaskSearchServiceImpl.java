@@ -0,0 +1,151 @@
+package hexlet.code.service.impl;
+
+import hexlet.code.dto.Task.TaskSearchView;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.service.TaskSearchService;
+import hexlet.code.util.SearchTokenizer;
+import hexlet.code.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+@Profile("!prod")
+@RequiredArgsConstructor
+public class TaskSearchServiceImpl implements TaskSearchService {
+    private static final int TITLE_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private final TaskRepository taskRepository;
+
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Map<String, Integer>> termsByTask = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<TaskSearchView> tasks = taskRepository.findAllProjectedBy();
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByTask.clear();
+            for (TaskSearchView task : tasks) {
+                put(task.getId(), weigh(task.getTitle(), task.getContent()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(String query) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> scores = null;
+        lock.readLock().lock();
+        try {
+            for (String term : terms) {
+                Map<Long, Integer> termScores = new HashMap<>();
+                for (Map<Long, Integer> posting : postings.subMap(term, true, term + Character.MAX_VALUE, false)
+                        .values()) {
+                    posting.forEach((taskId, weight) -> termScores.merge(taskId, weight, Integer::sum));
+                }
+
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((taskId, score) -> score + termScores.get(taskId));
+                }
+
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet().stream()
+            .sorted(Map.Entry.<Long, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    @Override
+    public void index(Long taskId, String title, String content) {
+        replace(taskId, weigh(title, content));
+    }
+
+    @Override
+    public void remove(Long taskId) {
+        replace(taskId, null);
+    }
+
+    private void replace(Long taskId, Map<String, Integer> weights) {
+        Map<String, Integer> previous;
+        lock.writeLock().lock();
+        try {
+            previous = drop(taskId);
+            put(taskId, weights);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TransactionUtils.onRollback(() -> {
+            lock.writeLock().lock();
+            try {
+                drop(taskId);
+                put(taskId, previous);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private Map<String, Integer> weigh(String title, String content) {
+        Map<String, Integer> weights = new HashMap<>();
+        SearchTokenizer.tokenize(title).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+        SearchTokenizer.tokenize(content).forEach(term -> weights.merge(term, CONTENT_WEIGHT, Integer::sum));
+        return weights;
+    }
+
+    private void put(Long taskId, Map<String, Integer> weights) {
+        if (weights == null || weights.isEmpty()) {
+            return;
+        }
+
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(taskId, weight));
+        termsByTask.put(taskId, weights);
+    }
+
+    private Map<String, Integer> drop(Long taskId) {
+        Map<String, Integer> weights = termsByTask.remove(taskId);
+        if (weights != null) {
+            for (String term : weights.keySet()) {
+                Map<Long, Integer> posting = postings.get(term);
+                posting.remove(taskId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        return weights;
+    }
+}
@@ -1,9 +1,22 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.cache.ReferenceDataRegistry;
+import hexlet.code.cache.TaskQueryCache;
+import hexlet.code.cache.TaskSnapshot;
+import hexlet.code.dto.Task.TaskBatchItemDTO;
+import hexlet.code.dto.Task.TaskBatchResultDTO;
+import hexlet.code.dto.Task.TaskBulkAssigneeDTO;
+import hexlet.code.dto.Task.TaskBulkResultDTO;
+import hexlet.code.dto.Task.TaskBulkStatusDTO;
 import hexlet.code.dto.Task.TaskCreateDTO;
 import hexlet.code.dto.Task.TaskFilterDTO;
+import hexlet.code.dto.Task.TaskMoveDTO;
+import hexlet.code.dto.Task.TaskPageDTO;
+import hexlet.code.dto.Task.TaskRankView;
 import hexlet.code.dto.Task.TaskResponseDTO;
 import hexlet.code.dto.Task.TaskUpdateDTO;
+import hexlet.code.exception.InvalidRequestException;
+import hexlet.code.exception.PreconditionFailedException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.TaskMapper;
 import hexlet.code.model.Label;
@@ -14,31 +27,126 @@ import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.service.TaskRankService;
+import hexlet.code.service.TaskSearchService;
 import hexlet.code.service.TaskService;
 import hexlet.code.specification.TaskSpecification;
+import hexlet.code.util.CursorUtils;
+import hexlet.code.util.ETagUtils;
+import hexlet.code.util.RankUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final int SEARCH_CHUNK_SIZE = 1000;
+    private static final int MAX_SEARCH_RESULTS = 1000;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final TaskStatusRepository taskStatusRepository;
     private final LabelRepository labelRepository;
     private final TaskMapper taskMapper;
+    private final TaskSearchService taskSearchService;
+    private final TaskRankService taskRankService;
+    private final TaskQueryCache taskQueryCache;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final Validator validator;
 
     @Override
+    @Transactional(readOnly = true)
     public List<TaskResponseDTO> getAllTasks(TaskFilterDTO filter) {
+        return taskQueryCache.get(filter, () -> findAllTasks(filter));
+    }
+
+    private List<TaskResponseDTO> findAllTasks(TaskFilterDTO filter) {
+        List<Long> rankedIds = taskSearchService.search(filter);
+        Specification<Task> spec = TaskSpecification.buildSpecification(filter);
+        if (rankedIds != null) {
+            List<Long> matchingIds = filterRankedIds(spec, filter, rankedIds);
+            return findRankedRows(matchingIds.subList(0, Math.min(matchingIds.size(), MAX_SEARCH_RESULTS)));
+        }
+
+        boolean rankOrder = filter.getStatus() != null && !filter.getStatus().isBlank();
+        return taskRepository.findResponseRows(spec, null, rankOrder);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageDTO getTasksPage(TaskFilterDTO filter, String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<Long> rankedIds = taskSearchService.search(filter);
+        if (rankedIds != null) {
+            return getRankedPage(filter, rankedIds, cursor, pageSize);
+        }
+
+        Specification<Task> filterSpec = TaskSpecification.buildSpecification(filter);
+        Specification<Task> pageSpec = filterSpec.and(TaskSpecification.afterId(CursorUtils.decode(cursor)));
+
+        List<TaskResponseDTO> tasks = taskRepository.findResponseRows(pageSpec, pageSize + 1, false);
+
+        boolean hasNext = tasks.size() > pageSize;
+        List<TaskResponseDTO> page = hasNext ? tasks.subList(0, pageSize) : tasks;
+        String nextCursor = hasNext ? CursorUtils.encode(page.get(page.size() - 1).getId()) : null;
+
+        return new TaskPageDTO(page, nextCursor, taskRepository.count(filterSpec));
+    }
+
+    private TaskPageDTO getRankedPage(TaskFilterDTO filter, List<Long> rankedIds, String cursor, int pageSize) {
+        List<Long> matchingIds = filterRankedIds(TaskSpecification.buildSpecification(filter), filter, rankedIds);
+        int offset = Math.min(CursorUtils.decodePosition(cursor), matchingIds.size());
+        List<Long> pageIds = matchingIds.subList(offset, Math.min(offset + pageSize + 1, matchingIds.size()));
+        List<TaskResponseDTO> tasks = findRankedRows(pageIds);
+
+        boolean hasNext = tasks.size() > pageSize;
+        List<TaskResponseDTO> page = hasNext ? tasks.subList(0, pageSize) : tasks;
+        String nextCursor = null;
+        if (hasNext) {
+            int lastPosition = pageIds.indexOf(page.get(page.size() - 1).getId());
+            nextCursor = CursorUtils.encodePosition(offset + lastPosition + 1);
+        }
+        return new TaskPageDTO(page, nextCursor, matchingIds.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(TaskFilterDTO filter, Consumer<TaskResponseDTO> consumer) {
         Specification<Task> spec = TaskSpecification.buildSpecification(filter);
-        return taskMapper.toResponseDTOList(taskRepository.findAll(spec));
+        List<Long> rankedIds = taskSearchService.search(filter);
+        if (rankedIds == null) {
+            taskRepository.streamResponseRows(spec, EXPORT_FETCH_SIZE, consumer);
+            return;
+        }
+
+        forEachRankedRow(spec, rankedIds, 0, task -> {
+            consumer.accept(task);
+            return true;
+        });
     }
 
     @Override
@@ -49,76 +157,480 @@ public class TaskServiceImpl implements TaskService {
         return taskMapper.toResponseDTO(task);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Long getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    }
+
     @Override
     public TaskResponseDTO createTask(TaskCreateDTO taskCreateDTO) {
         Task task = taskMapper.toEntity(taskCreateDTO);
 
         var assigneeId = taskCreateDTO.getAssigneeId();
         if (assigneeId != null) {
-            User assignee = userRepository.findById(assigneeId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + assigneeId));
-            task.setAssignee(assignee);
+            task.setAssignee(resolveAssignee(assigneeId));
         }
 
-        var statusName = taskCreateDTO.getStatus();
-        TaskStatus taskStatus = taskStatusRepository.findBySlug(statusName)
-            .orElseThrow(() -> new ResourceNotFoundException("TaskStatus not found with slug: " + statusName));
+        TaskStatus taskStatus = resolveTaskStatus(taskCreateDTO.getStatus());
         task.setTaskStatus(taskStatus);
+        task.setBoardRank(RankUtils.after(taskRepository.findMaxBoardRank(taskStatus.getId()).orElse(null)));
 
         var taskLabelIds = taskCreateDTO.getTaskLabelIds();
         if (taskLabelIds != null && !taskLabelIds.isEmpty()) {
-            Set<Label> labels = new HashSet<>();
-            for (Long labelId : taskLabelIds) {
-                Label label = labelRepository.findById(labelId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Label not found with id: " + labelId));
-                labels.add(label);
-            }
-            task.setLabels(labels);
+            task.setLabels(resolveLabels(taskLabelIds));
         }
 
         Task savedTask = taskRepository.save(task);
+        rebalanceIfDense(savedTask);
+        taskSearchService.index(savedTask.getId(), savedTask.getTitle(), savedTask.getContent());
+        taskQueryCache.onTaskWrite(null, TaskSnapshot.of(savedTask));
         return taskMapper.toResponseDTO(savedTask);
     }
 
     @Override
-    public TaskResponseDTO updateTask(Long id, TaskUpdateDTO taskUpdateDTO) {
+    public TaskBatchResultDTO createTasks(List<TaskCreateDTO> taskCreateDTOs) {
+        if (taskCreateDTOs.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("Batch size must not exceed " + MAX_BATCH_SIZE);
+        }
+
+        List<String> errors = new ArrayList<>(taskCreateDTOs.size());
+        Set<String> slugs = new HashSet<>();
+        Set<Long> assigneeIds = new HashSet<>();
+        Set<Long> labelIds = new HashSet<>();
+        for (TaskCreateDTO dto : taskCreateDTOs) {
+            String error = validateBatchItem(dto);
+            errors.add(error);
+            if (error == null) {
+                slugs.add(dto.getStatus());
+                if (dto.getAssigneeId() != null) {
+                    assigneeIds.add(dto.getAssigneeId());
+                }
+                if (dto.getTaskLabelIds() != null) {
+                    labelIds.addAll(dto.getTaskLabelIds());
+                }
+            }
+        }
+
+        Map<String, TaskStatus> statuses = findTaskStatuses(slugs);
+        Map<Long, String> lastRanks = findLastRanks(statuses.values());
+        Map<Long, User> assignees = userRepository.findAllById(assigneeIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Label> labels = findLabels(labelIds);
+
+        List<TaskBatchItemDTO> items = new ArrayList<>(taskCreateDTOs.size());
+        List<TaskBatchItemDTO> createdItems = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCreateDTOs.size(); i++) {
+            TaskCreateDTO dto = taskCreateDTOs.get(i);
+            String error = errors.get(i);
+            if (error == null) {
+                error = resolveBatchReferences(dto, statuses, assignees, labels);
+            }
+            TaskBatchItemDTO item = new TaskBatchItemDTO(i, null, error);
+            items.add(item);
+
+            if (error == null) {
+                Task task = taskMapper.toEntity(dto);
+                TaskStatus taskStatus = statuses.get(dto.getStatus());
+                task.setTaskStatus(taskStatus);
+                task.setBoardRank(RankUtils.after(lastRanks.get(taskStatus.getId())));
+                lastRanks.put(taskStatus.getId(), task.getBoardRank());
+                if (dto.getAssigneeId() != null) {
+                    task.setAssignee(assignees.get(dto.getAssigneeId()));
+                }
+                if (dto.getTaskLabelIds() != null) {
+                    task.setLabels(dto.getTaskLabelIds().stream().map(labels::get).collect(Collectors.toSet()));
+                }
+                tasks.add(task);
+                createdItems.add(item);
+            }
+        }
+
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        taskRepository.flush();
+
+        for (int i = 0; i < savedTasks.size(); i++) {
+            Task savedTask = savedTasks.get(i);
+            rebalanceIfDense(savedTask);
+            taskSearchService.index(savedTask.getId(), savedTask.getTitle(), savedTask.getContent());
+            createdItems.get(i).setTask(taskMapper.toResponseDTO(savedTask));
+        }
+        if (!savedTasks.isEmpty()) {
+            taskQueryCache.invalidateAll();
+        }
+
+        return new TaskBatchResultDTO(savedTasks.size(), items.size() - savedTasks.size(), items);
+    }
+
+    @Override
+    public TaskResponseDTO updateTask(Long id, TaskUpdateDTO taskUpdateDTO, String ifMatch) {
         Task task = taskRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        if (ifMatch != null && !ETagUtils.matchesStrong(ifMatch, ETagUtils.ofVersion(task.getVersion()))) {
+            throw new PreconditionFailedException("Task has been modified, current version is " + task.getVersion());
+        }
+        TaskSnapshot before = TaskSnapshot.of(task);
 
         taskMapper.updateEntity(taskUpdateDTO, task);
 
         var assigneeId = taskUpdateDTO.getAssigneeId();
         if (assigneeId != null) {
-            User assignee = userRepository.findById(assigneeId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + assigneeId));
-            task.setAssignee(assignee);
+            task.setAssignee(resolveAssignee(assigneeId));
         }
 
-        var statusName = taskUpdateDTO.getStatus();
-        if (statusName != null) {
-            TaskStatus taskStatus = taskStatusRepository.findBySlug(statusName)
-                .orElseThrow(() -> new ResourceNotFoundException("TaskStatus not found with slug: " + statusName));
-            task.setTaskStatus(taskStatus);
+        if (taskUpdateDTO.getStatus() != null) {
+            TaskStatus taskStatus = resolveTaskStatus(taskUpdateDTO.getStatus());
+            if (!taskStatus.getId().equals(task.getTaskStatus().getId())) {
+                task.setTaskStatus(taskStatus);
+                task.setBoardRank(RankUtils.after(
+                    taskRepository.findMaxBoardRankExcluding(taskStatus.getId(), task.getId()).orElse(null)));
+            }
         }
 
         if (taskUpdateDTO.getTaskLabelIds() != null) {
-            Set<Label> labels = new HashSet<>();
-            for (Long labelId : taskUpdateDTO.getTaskLabelIds()) {
-                Label label = labelRepository.findById(labelId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Label not found with id: " + labelId));
-                labels.add(label);
+            updateLabels(task, taskUpdateDTO.getTaskLabelIds());
+        }
+
+        taskRepository.flush();
+        rebalanceIfDense(task);
+        taskSearchService.index(task.getId(), task.getTitle(), task.getContent());
+        taskQueryCache.onTaskWrite(before, TaskSnapshot.of(task));
+        return taskMapper.toResponseDTO(task);
+    }
+
+    @Override
+    public TaskResponseDTO moveTask(Long id, TaskMoveDTO taskMoveDTO) {
+        Task task = taskRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        TaskSnapshot before = TaskSnapshot.of(task);
+
+        TaskStatus taskStatus = taskMoveDTO.getStatus() == null
+            ? task.getTaskStatus()
+            : resolveTaskStatus(taskMoveDTO.getStatus());
+
+        String rank = rankBetweenNeighbours(task.getId(), taskStatus.getId(), taskMoveDTO);
+        if (rank == null) {
+            taskRankService.rebalance(taskStatus.getId());
+            rank = rankBetweenNeighbours(task.getId(), taskStatus.getId(), taskMoveDTO);
+        }
+        if (rank == null) {
+            throw new InvalidRequestException("Tasks " + taskMoveDTO.getBeforeId() + " and "
+                + taskMoveDTO.getAfterId() + " are not in board order");
+        }
+
+        task.setTaskStatus(taskStatus);
+        task.setBoardRank(rank);
+        taskRepository.flush();
+        rebalanceIfDense(task);
+        taskQueryCache.onTaskWrite(before, TaskSnapshot.of(task));
+        return taskMapper.toResponseDTO(task);
+    }
+
+    @Override
+    public TaskBulkResultDTO updateTasksStatus(TaskBulkStatusDTO taskBulkStatusDTO) {
+        TaskStatus taskStatus = resolveTaskStatus(taskBulkStatusDTO.getStatus());
+        List<Long> ids = selectTaskIds(taskBulkStatusDTO.getIds(), taskBulkStatusDTO.getFilter());
+        String lastRank = taskRepository.findMaxBoardRank(taskStatus.getId()).orElse(null);
+
+        int affected = 0;
+        for (List<Long> chunk : chunks(ids, BULK_CHUNK_SIZE)) {
+            Map<Long, String> ranks = new LinkedHashMap<>();
+            for (Long id : chunk) {
+                lastRank = RankUtils.after(lastRank);
+                ranks.put(id, lastRank);
             }
-            task.setLabels(labels);
+            affected += taskRepository.moveToStatus(ranks, taskStatus.getId());
+        }
+        if (affected > 0) {
+            rebalanceIfDense(taskStatus.getId(), lastRank);
+            taskQueryCache.invalidateAll();
         }
+        return new TaskBulkResultDTO(affected);
+    }
 
-        Task savedTask = taskRepository.save(task);
-        return taskMapper.toResponseDTO(savedTask);
+    @Override
+    public TaskBulkResultDTO updateTasksAssignee(TaskBulkAssigneeDTO taskBulkAssigneeDTO) {
+        Long assigneeId = taskBulkAssigneeDTO.getAssigneeId();
+        User assignee = userRepository.findById(assigneeId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + assigneeId));
+        List<Long> ids = selectTaskIds(taskBulkAssigneeDTO.getIds(), taskBulkAssigneeDTO.getFilter());
+
+        int affected = 0;
+        for (List<Long> chunk : chunks(ids, BULK_CHUNK_SIZE)) {
+            affected += taskRepository.updateAssignee(chunk, assignee);
+        }
+        if (affected > 0) {
+            taskQueryCache.invalidateAll();
+        }
+        return new TaskBulkResultDTO(affected);
     }
 
     @Override
     public void deleteTask(Long id) {
-        taskRepository.deleteById(id);
+        taskRepository.findById(id).ifPresent(task -> {
+            TaskSnapshot before = TaskSnapshot.of(task);
+            taskRepository.delete(task);
+            taskSearchService.remove(id);
+            taskQueryCache.onTaskWrite(before, null);
+        });
     }
-}
 
+    private String rankBetweenNeighbours(Long taskId, Long taskStatusId, TaskMoveDTO taskMoveDTO) {
+        Long beforeId = taskMoveDTO.getBeforeId();
+        Long afterId = taskMoveDTO.getAfterId();
+        if (taskId.equals(beforeId) || taskId.equals(afterId)) {
+            throw new InvalidRequestException("Task cannot be moved relative to itself");
+        }
+
+        List<Long> neighbourIds = new ArrayList<>();
+        if (beforeId != null) {
+            neighbourIds.add(beforeId);
+        }
+        if (afterId != null) {
+            neighbourIds.add(afterId);
+        }
+        Map<Long, TaskRankView> neighbours = neighbourIds.isEmpty()
+            ? Map.of()
+            : taskRepository.findRanksByIdIn(neighbourIds).stream()
+                .collect(Collectors.toMap(TaskRankView::getId, Function.identity()));
+        for (Long neighbourId : neighbourIds) {
+            TaskRankView neighbour = neighbours.get(neighbourId);
+            if (neighbour == null) {
+                throw new ResourceNotFoundException("Task not found with id: " + neighbourId);
+            }
+            if (!neighbour.getTaskStatusId().equals(taskStatusId)) {
+                throw new InvalidRequestException("Task " + neighbourId + " belongs to another status");
+            }
+            if (neighbour.getBoardRank() == null) {
+                return null;
+            }
+        }
+
+        String lower;
+        String upper;
+        if (beforeId != null && afterId != null) {
+            lower = neighbours.get(beforeId).getBoardRank();
+            upper = neighbours.get(afterId).getBoardRank();
+        } else if (beforeId != null) {
+            lower = neighbours.get(beforeId).getBoardRank();
+            upper = taskRepository.findMinBoardRankAbove(taskStatusId, lower, taskId).orElse(null);
+        } else if (afterId != null) {
+            upper = neighbours.get(afterId).getBoardRank();
+            lower = taskRepository.findMaxBoardRankBelow(taskStatusId, upper, taskId).orElse(null);
+        } else {
+            lower = taskRepository.findMaxBoardRankExcluding(taskStatusId, taskId).orElse(null);
+            upper = null;
+        }
+
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            return null;
+        }
+        return RankUtils.between(lower, upper);
+    }
+
+    private Map<Long, String> findLastRanks(Collection<TaskStatus> taskStatuses) {
+        Map<Long, String> lastRanks = new HashMap<>();
+        if (taskStatuses.isEmpty()) {
+            return lastRanks;
+        }
+
+        List<Long> taskStatusIds = taskStatuses.stream().map(TaskStatus::getId).toList();
+        for (Object[] row : taskRepository.findMaxBoardRanks(taskStatusIds)) {
+            lastRanks.put((Long) row[0], (String) row[1]);
+        }
+        return lastRanks;
+    }
+
+    private void rebalanceIfDense(Task task) {
+        rebalanceIfDense(task.getTaskStatus().getId(), task.getBoardRank());
+    }
+
+    private void rebalanceIfDense(Long taskStatusId, String rank) {
+        if (rank != null && rank.length() > RankUtils.MAX_LENGTH) {
+            taskRankService.scheduleRebalance(taskStatusId);
+        }
+    }
+
+    private List<Long> selectTaskIds(Collection<Long> ids, TaskFilterDTO filter) {
+        if (ids != null) {
+            return new ArrayList<>(ids);
+        }
+        if (filter == null || filter.isEmpty()) {
+            throw new InvalidRequestException("Either ids or a non-empty filter must be provided");
+        }
+
+        Specification<Task> spec = TaskSpecification.buildSpecification(filter);
+        List<Long> rankedIds = taskSearchService.search(filter);
+        if (rankedIds == null) {
+            return taskRepository.findIds(spec, null);
+        }
+        return new ArrayList<>(filterRankedIds(spec, filter, rankedIds));
+    }
+
+    private List<Long> filterRankedIds(Specification<Task> spec, TaskFilterDTO filter, List<Long> rankedIds) {
+        if (rankedIds.isEmpty() || isSearchOnly(filter)) {
+            return rankedIds;
+        }
+
+        Specification<Task> candidates = rankedIds.size() <= SEARCH_CHUNK_SIZE
+            ? spec.and(TaskSpecification.byIds(rankedIds))
+            : spec;
+        Set<Long> matching = new HashSet<>(taskRepository.findIds(candidates, null));
+        return rankedIds.stream().filter(matching::contains).toList();
+    }
+
+    private List<TaskResponseDTO> findRankedRows(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
 
+        List<TaskResponseDTO> tasks = taskRepository.findResponseRows(TaskSpecification.byIds(ids), null, false);
+        tasks.sort(Comparator.comparing(task -> positions.get(task.getId())));
+        return tasks;
+    }
+
+    private void forEachRankedRow(
+            Specification<Task> spec,
+            List<Long> rankedIds,
+            int offset,
+            Predicate<TaskResponseDTO> consumer) {
+        for (List<Long> chunk : chunks(rankedIds.subList(offset, rankedIds.size()), SEARCH_CHUNK_SIZE)) {
+            Map<Long, Integer> positions = new HashMap<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                positions.put(chunk.get(i), i);
+            }
+
+            List<TaskResponseDTO> tasks = taskRepository.findResponseRows(
+                spec.and(TaskSpecification.byIds(chunk)), null, false);
+            tasks.sort(Comparator.comparing(task -> positions.get(task.getId())));
+            for (TaskResponseDTO task : tasks) {
+                if (!consumer.test(task)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static boolean isSearchOnly(TaskFilterDTO filter) {
+        return (filter.getTitleCont() == null || filter.getTitleCont().isEmpty())
+            && filter.getAssigneeId() == null
+            && (filter.getStatus() == null || filter.getStatus().isEmpty())
+            && filter.getLabelId() == null
+            && (filter.getLabelIds() == null || filter.getLabelIds().isEmpty());
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids, int size) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += size) {
+            chunks.add(ids.subList(from, Math.min(from + size, ids.size())));
+        }
+        return chunks;
+    }
+
+    private void updateLabels(Task task, Set<Long> labelIds) {
+        if (task.getLabels() == null) {
+            task.setLabels(resolveLabels(labelIds));
+            return;
+        }
+
+        Set<Long> addedIds = new HashSet<>(labelIds);
+        task.getLabels().forEach(label -> addedIds.remove(label.getId()));
+        Set<Label> addedLabels = resolveLabels(addedIds);
+
+        task.getLabels().removeIf(label -> !labelIds.contains(label.getId()));
+        task.getLabels().addAll(addedLabels);
+    }
+
+    private User resolveAssignee(Long assigneeId) {
+        if (!userRepository.existsById(assigneeId)) {
+            throw new ResourceNotFoundException("User not found with id: " + assigneeId);
+        }
+        return userRepository.getReferenceById(assigneeId);
+    }
+
+    private TaskStatus resolveTaskStatus(String slug) {
+        return referenceDataRegistry.findTaskStatusIdBySlug(slug)
+            .map(taskStatusRepository::getReferenceById)
+            .or(() -> taskStatusRepository.findBySlug(slug))
+            .orElseThrow(() -> new ResourceNotFoundException("TaskStatus not found with slug: " + slug));
+    }
+
+    private Map<String, TaskStatus> findTaskStatuses(Set<String> slugs) {
+        Map<String, TaskStatus> statuses = new HashMap<>();
+        referenceDataRegistry.findTaskStatusIdsBySlug(slugs)
+            .forEach((slug, id) -> statuses.put(slug, taskStatusRepository.getReferenceById(id)));
+        if (statuses.size() < slugs.size()) {
+            Set<String> missing = new HashSet<>(slugs);
+            missing.removeAll(statuses.keySet());
+            taskStatusRepository.findBySlugIn(missing).forEach(status -> statuses.put(status.getSlug(), status));
+        }
+        return statuses;
+    }
+
+    private Set<Label> resolveLabels(Set<Long> labelIds) {
+        if (labelIds.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Map<Long, Label> labels = findLabels(labelIds);
+        if (labels.size() != labelIds.size()) {
+            Set<Long> missing = new HashSet<>(labelIds);
+            missing.removeAll(labels.keySet());
+            throw new ResourceNotFoundException("Label not found with ids: " + missing);
+        }
+        return new HashSet<>(labels.values());
+    }
+
+    private Map<Long, Label> findLabels(Set<Long> labelIds) {
+        Map<Long, Label> labels = new HashMap<>();
+        referenceDataRegistry.findExistingLabelIds(labelIds)
+            .forEach(id -> labels.put(id, labelRepository.getReferenceById(id)));
+        if (labels.size() < labelIds.size()) {
+            Set<Long> missing = new HashSet<>(labelIds);
+            missing.removeAll(labels.keySet());
+            labelRepository.findAllById(missing).forEach(label -> labels.put(label.getId(), label));
+        }
+        return labels;
+    }
+
+    private String validateBatchItem(TaskCreateDTO dto) {
+        if (dto == null) {
+            return "Task must not be null";
+        }
+
+        Set<ConstraintViolation<TaskCreateDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    private String resolveBatchReferences(
+            TaskCreateDTO dto,
+            Map<String, TaskStatus> statuses,
+            Map<Long, User> assignees,
+            Map<Long, Label> labels) {
+        if (!statuses.containsKey(dto.getStatus())) {
+            return "TaskStatus not found with slug: " + dto.getStatus();
+        }
+        if (dto.getAssigneeId() != null && !assignees.containsKey(dto.getAssigneeId())) {
+            return "User not found with id: " + dto.getAssigneeId();
+        }
+        if (dto.getTaskLabelIds() != null && !labels.keySet().containsAll(dto.getTaskLabelIds())) {
+            Set<Long> missing = new HashSet<>(dto.getTaskLabelIds());
+            missing.removeAll(labels.keySet());
+            return "Label not found with ids: " + missing;
+        }
+        return null;
+    }
+}
@@ -1,5 +1,8 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.cache.ReferenceDataRegistry;
+import hexlet.code.cache.SerializedList;
+import hexlet.code.cache.TaskQueryCache;
 import hexlet.code.dto.TaskStatus.TaskStatusCreateDTO;
 import hexlet.code.dto.TaskStatus.TaskStatusResponseDTO;
 import hexlet.code.dto.TaskStatus.TaskStatusUpdateDTO;
@@ -10,6 +13,7 @@ import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.service.TaskStatusService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -20,12 +24,20 @@ import java.util.List;
 public class TaskStatusServiceImpl implements TaskStatusService {
     private final TaskStatusRepository taskStatusRepository;
     private final TaskStatusMapper taskStatusMapper;
+    private final TaskQueryCache taskQueryCache;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Override
     public List<TaskStatusResponseDTO> getAllTaskStatuses() {
         return taskStatusMapper.toResponseDTOList(taskStatusRepository.findAll());
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public SerializedList getTaskStatusList() {
+        return referenceDataRegistry.getTaskStatusList();
+    }
+
     @Override
     public TaskStatusResponseDTO getTaskStatusById(Long id) {
         TaskStatus taskStatus = taskStatusRepository.findById(id)
@@ -38,6 +50,7 @@ public class TaskStatusServiceImpl implements TaskStatusService {
     public TaskStatusResponseDTO createTaskStatus(TaskStatusCreateDTO taskStatusCreateDTO) {
         TaskStatus taskStatus = taskStatusMapper.toEntity(taskStatusCreateDTO);
         TaskStatus savedTaskStatus = taskStatusRepository.save(taskStatus);
+        referenceDataRegistry.onTaskStatusesChanged();
         return taskStatusMapper.toResponseDTO(savedTaskStatus);
     }
 
@@ -48,12 +61,15 @@ public class TaskStatusServiceImpl implements TaskStatusService {
 
         taskStatusMapper.updateEntity(taskStatusUpdateDTO, taskStatus);
         TaskStatus savedTaskStatus = taskStatusRepository.save(taskStatus);
+        taskQueryCache.invalidateAll();
+        referenceDataRegistry.onTaskStatusesChanged();
         return taskStatusMapper.toResponseDTO(savedTaskStatus);
     }
 
     @Override
     public void deleteTaskStatus(Long id) {
         taskStatusRepository.deleteById(id);
+        referenceDataRegistry.onTaskStatusesChanged();
     }
 }
 
@@ -1,15 +1,30 @@
 package hexlet.code.specification;
 
+import hexlet.code.exception.InvalidRequestException;
+import hexlet.code.model.Label;
 import hexlet.code.model.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 import hexlet.code.dto.Task.TaskFilterDTO;
 
+import java.util.Collection;
+import java.util.List;
+
 public class TaskSpecification {
+    public static final String LABEL_MODE_ANY = "any";
+    public static final String LABEL_MODE_ALL = "all";
+
     public static Specification<Task> buildSpecification(TaskFilterDTO filter) {
         return byTitleCont(filter.getTitleCont())
             .and(byAssigneeId(filter.getAssigneeId()))
             .and(byStatus(filter.getStatus()))
-            .and(byLabelId(filter.getLabelId()));
+            .and(byLabelId(filter.getLabelId()))
+            .and(byLabelIds(filter.getLabelIds(), filter.getLabelMode()));
     }
 
     public static Specification<Task> byTitleCont(String titleCont) {
@@ -51,7 +66,66 @@ public class TaskSpecification {
                 return criteriaBuilder.conjunction();
             }
 
-            return criteriaBuilder.equal(root.join("labels").get("id"), labelId);
+            return hasAnyLabel(root, query, criteriaBuilder, List.of(labelId));
         };
     }
+
+    public static Specification<Task> byLabelIds(Collection<Long> labelIds, String labelMode) {
+        boolean matchAll = LABEL_MODE_ALL.equalsIgnoreCase(labelMode);
+        if (!matchAll && labelMode != null && !LABEL_MODE_ANY.equalsIgnoreCase(labelMode)) {
+            throw new InvalidRequestException("Unknown labelMode: " + labelMode);
+        }
+
+        return (root, query, criteriaBuilder) -> {
+            if (labelIds == null || labelIds.isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+
+            if (matchAll) {
+                Predicate[] predicates = labelIds.stream()
+                    .distinct()
+                    .map(labelId -> hasAnyLabel(root, query, criteriaBuilder, List.of(labelId)))
+                    .toArray(Predicate[]::new);
+                return criteriaBuilder.and(predicates);
+            }
+
+            return hasAnyLabel(root, query, criteriaBuilder, labelIds);
+        };
+    }
+
+    public static Specification<Task> afterId(Long lastId) {
+        return (root, query, criteriaBuilder) -> {
+            if (lastId == null) {
+                return criteriaBuilder.conjunction();
+            }
+
+            return criteriaBuilder.greaterThan(root.get("id"), lastId);
+        };
+    }
+
+    public static Specification<Task> byIds(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> {
+            if (ids == null) {
+                return criteriaBuilder.conjunction();
+            }
+            if (ids.isEmpty()) {
+                return criteriaBuilder.disjunction();
+            }
+
+            return root.get("id").in(ids);
+        };
+    }
+
+    private static Predicate hasAnyLabel(
+            Root<Task> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder criteriaBuilder,
+            Collection<Long> labelIds) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Task> task = subquery.correlate(root);
+        Join<Task, Label> label = task.join("labels");
+        subquery.select(label.<Long>get("id"))
+            .where(label.get("id").in(labelIds));
+        return criteriaBuilder.exists(subquery);
+    }
 }
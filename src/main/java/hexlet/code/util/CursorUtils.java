@@ -0,0 +1,58 @@
+package hexlet.code.util;
+
+import hexlet.code.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public final class CursorUtils {
+    private static final String PREFIX = "id:";
+    private static final String POSITION_PREFIX = "pos:";
+
+    private CursorUtils() {
+    }
+
+    public static String encode(Long lastId) {
+        return encode(PREFIX, lastId);
+    }
+
+    public static Long decode(String cursor) {
+        return decode(PREFIX, cursor);
+    }
+
+    public static String encodePosition(int position) {
+        return encode(POSITION_PREFIX, (long) position);
+    }
+
+    public static int decodePosition(String cursor) {
+        Long position = decode(POSITION_PREFIX, cursor);
+        if (position == null) {
+            return 0;
+        }
+        if (position < 0 || position > Integer.MAX_VALUE) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+        return position.intValue();
+    }
+
+    private static String encode(String prefix, Long value) {
+        byte[] raw = (prefix + value).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    private static Long decode(String prefix, String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(prefix)) {
+                throw new InvalidRequestException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(raw.substring(prefix.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package hexlet.code.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "datasource-guard")
+@Setter
+@Getter
+public class DataSourceGuardProperties {
+    private boolean enabled;
+    private Integer maxConcurrent;
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,46 @@
+package hexlet.code.util;
+
+import org.springframework.util.DigestUtils;
+
+public final class ETagUtils {
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETagUtils() {
+    }
+
+    public static String of(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    public static String ofVersion(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static boolean matches(String header, String etag) {
+        return matches(header, etag, true);
+    }
+
+    public static boolean matchesStrong(String header, String etag) {
+        return matches(header, etag, false);
+    }
+
+    private static boolean matches(String header, String etag, boolean weak) {
+        if (header == null || etag == null) {
+            return false;
+        }
+
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith(WEAK_PREFIX)) {
+                if (!weak) {
+                    continue;
+                }
+                value = value.substring(WEAK_PREFIX.length());
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,21 @@
+package hexlet.code.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+@Setter
+@Getter
+public class IdempotencyProperties {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofHours(24);
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    private List<String> paths = List.of("/api/tasks", "/api/users");
+}
@@ -0,0 +1,18 @@
+package hexlet.code.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "jwt-cache")
+@Setter
+@Getter
+public class JwtCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration maxTtl = Duration.ofHours(1);
+}
@@ -13,14 +13,17 @@ import java.time.temporal.ChronoUnit;
 @Component
 @RequiredArgsConstructor
 public class JwtUtils {
+    public static final String USER_ID_CLAIM = "uid";
+
     private final JwtEncoder jwtEncoder;
 
-    public String generateToken(String username) {
+    public String generateToken(String username, Long userId) {
         Instant now = Instant.now();
 
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer("self")
                 .subject(username)
+                .claim(USER_ID_CLAIM, userId)
                 .issuedAt(now)
                 .expiresAt(now.plus(1, ChronoUnit.HOURS))
                 .build();
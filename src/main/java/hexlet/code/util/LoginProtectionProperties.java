@@ -0,0 +1,36 @@
+package hexlet.code.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "login-protection")
+@Setter
+@Getter
+public class LoginProtectionProperties {
+    private Hashing hashing = new Hashing();
+    private RateLimit rateLimit = new RateLimit();
+
+    @Setter
+    @Getter
+    public static class Hashing {
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = 32;
+        private Duration timeout = Duration.ofSeconds(10);
+    }
+
+    @Setter
+    @Getter
+    public static class RateLimit {
+        private boolean enabled = true;
+        private int clientCapacity = 30;
+        private int usernameCapacity = 10;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+        private int stripes = 64;
+        private long maximumKeys = 100_000;
+    }
+}
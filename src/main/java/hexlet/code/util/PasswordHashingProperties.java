@@ -0,0 +1,19 @@
+package hexlet.code.util;
+
+import hexlet.code.security.PasswordHashingAlgorithm;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "password-hashing")
+@Setter
+@Getter
+public class PasswordHashingProperties {
+    private PasswordHashingAlgorithm algorithm = PasswordHashingAlgorithm.BCRYPT;
+    private Integer cost;
+    private Duration targetHashTime;
+}
@@ -0,0 +1,96 @@
+package hexlet.code.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class RankUtils {
+    public static final int MAX_LENGTH = 16;
+
+    private static final String ALPHABET = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = ALPHABET.length();
+    private static final int MAX_SPREAD_WIDTH = 10;
+    private static final int MIN_APPEND_WIDTH = 4;
+
+    private RankUtils() {
+    }
+
+    public static String after(String lower) {
+        if (lower == null) {
+            return between(null, null);
+        }
+
+        char[] digits = new char[Math.max(lower.length(), MIN_APPEND_WIDTH)];
+        Arrays.fill(digits, ALPHABET.charAt(0));
+        lower.getChars(0, lower.length(), digits, 0);
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int next = digit(digits[i]) + 1;
+            if (next < BASE) {
+                digits[i] = ALPHABET.charAt(next);
+                return new String(digits);
+            }
+            digits[i] = ALPHABET.charAt(i == digits.length - 1 ? 1 : 0);
+        }
+        return lower + ALPHABET.charAt(1);
+    }
+
+    public static String between(String lower, String upper) {
+        String from = lower == null ? "" : lower;
+        if (upper != null && from.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Rank " + lower + " is not below " + upper);
+        }
+
+        StringBuilder rank = new StringBuilder();
+        boolean bounded = upper != null;
+        for (int i = 0;; i++) {
+            int low = i < from.length() ? digit(from.charAt(i)) : 0;
+            int high = bounded ? digit(upper.charAt(i)) : BASE;
+
+            if (high - low > 1) {
+                return rank.append(ALPHABET.charAt((low + high) / 2)).toString();
+            }
+            if (high - low == 1) {
+                bounded = false;
+            }
+            rank.append(ALPHABET.charAt(low));
+        }
+    }
+
+    public static List<String> spread(int count) {
+        long slots = 2L * count + 1;
+        int width = 1;
+        while (width < MAX_SPREAD_WIDTH && Math.pow(BASE, width) / slots < BASE) {
+            width++;
+        }
+
+        long step = (long) Math.pow(BASE, width) / slots;
+        List<String> ranks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ranks.add(format(step * i, width));
+        }
+        return ranks;
+    }
+
+    private static String format(long value, int width) {
+        char[] digits = new char[width];
+        long remaining = value;
+        for (int i = width - 1; i >= 0; i--) {
+            digits[i] = ALPHABET.charAt((int) (remaining % BASE));
+            remaining /= BASE;
+        }
+
+        int length = width;
+        while (length > 1 && digits[length - 1] == '0') {
+            length--;
+        }
+        return new String(digits, 0, length);
+    }
+
+    private static int digit(char c) {
+        int digit = ALPHABET.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid rank character: " + c);
+        }
+        return digit;
+    }
+}
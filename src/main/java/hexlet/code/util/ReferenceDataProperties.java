@@ -0,0 +1,16 @@
+package hexlet.code.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "reference-data")
+@Setter
+@Getter
+public class ReferenceDataProperties {
+    private Duration refreshInterval = Duration.ofMinutes(1);
+}
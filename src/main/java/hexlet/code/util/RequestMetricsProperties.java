@@ -0,0 +1,19 @@
+package hexlet.code.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "request-metrics")
+@Setter
+@Getter
+public class RequestMetricsProperties {
+    private boolean enabled = true;
+    private boolean serverTiming;
+    private int statementBudget = 20;
+    private Duration timeBudget = Duration.ofMillis(500);
+}
@@ -0,0 +1,18 @@
+package hexlet.code.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "task-cache")
+@Setter
+@Getter
+public class TaskCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 500;
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -2,6 +2,7 @@ package hexlet.code.util;
 
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,8 +16,8 @@ public class UserUtils {
     private final UserRepository userRepository;
 
     public Optional<User> getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
+        Authentication authentication = currentAuthentication();
+        if (authentication == null) {
             return Optional.empty();
         }
 
@@ -24,9 +25,29 @@ public class UserUtils {
         return userRepository.findByEmail(email);
     }
 
+    public Optional<Long> getCurrentUserId() {
+        Authentication authentication = currentAuthentication();
+        if (authentication == null) {
+            return Optional.empty();
+        }
+
+        if (authentication.getPrincipal() instanceof UserPrincipal principal && principal.getId() != null) {
+            return Optional.of(principal.getId());
+        }
+        return userRepository.findByEmail(authentication.getName()).map(User::getId);
+    }
+
     public boolean isCurrentUser(Long userId) {
-        return getCurrentUser()
-                .map(user -> user.getId().equals(userId))
+        return getCurrentUserId()
+                .map(id -> id.equals(userId))
                 .orElse(false);
     }
+
+    private static Authentication currentAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication;
+    }
 }
@@ -0,0 +1,14 @@
+DROP INDEX IF EXISTS idx_tasks_search;
+CREATE INDEX IF NOT EXISTS idx_tasks_search_weighted ON tasks
+    USING gin ((setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'B')));
+
+CREATE INDEX IF NOT EXISTS idx_task_labels_label_task ON task_labels (label_id, task_id);
+
+CREATE SEQUENCE IF NOT EXISTS tasks_seq INCREMENT BY 50;
+SELECT setval('tasks_seq', GREATEST((SELECT last_value FROM tasks_seq), (SELECT COALESCE(MAX(id), 0) FROM tasks)));
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS board_rank varchar(255) COLLATE "C";
+CREATE INDEX IF NOT EXISTS idx_tasks_status_rank ON tasks (task_status_id, board_rank);
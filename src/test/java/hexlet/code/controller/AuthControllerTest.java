@@ -2,6 +2,9 @@ package hexlet.code.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.LoginProtectionProperties;
 import hexlet.code.util.TestDataFactory;
 
 import org.junit.jupiter.api.Test;
@@ -10,13 +13,25 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -28,6 +43,15 @@ class AuthControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JwtEncoder jwtEncoder;
+
+    @Autowired
+    private LoginProtectionProperties loginProtectionProperties;
+
+    @Autowired
+    private UserRepository userRepository;
+
 
     @Test
     void shouldLoginSuccessfully() throws Exception {
@@ -63,4 +87,112 @@ class AuthControllerTest {
                 )))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void shouldAcceptIssuedTokenOnRepeatedRequests() throws Exception {
+        mockMvc.perform(post("/api/users")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TestDataFactory.createValidUser("repeat@example.com"))))
+                .andExpect(status().isCreated());
+
+        String token = mockMvc.perform(post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    TestDataFactory.createAuthRequest("repeat@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/users").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void shouldRejectExpiredToken() throws Exception {
+        Instant issuedAt = Instant.now().minus(2, ChronoUnit.HOURS);
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("self")
+                .subject("expired@example.com")
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plus(1, ChronoUnit.HOURS))
+                .build();
+        String token = jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/users").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Test
+    void shouldRejectTamperedToken() throws Exception {
+        String token = mockMvc.perform(post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    TestDataFactory.createAuthRequest("hexlet@example.com", "qwerty"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String tampered = token.substring(0, token.lastIndexOf('.') + 1) + "c2lnbmF0dXJl";
+
+        mockMvc.perform(get("/api/users").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users").header(HttpHeaders.AUTHORIZATION, "Bearer " + tampered))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldRateLimitRepeatedLoginAttemptsForUsername() throws Exception {
+        String request = objectMapper.writeValueAsString(
+            TestDataFactory.createAuthRequest("limited@example.com", "wrongpassword"));
+        int capacity = loginProtectionProperties.getRateLimit().getUsernameCapacity();
+
+        for (int i = 0; i < capacity; i++) {
+            mockMvc.perform(post("/api/login")
+                    .with(remoteAddress("10.0.0.19"))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(request))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/login")
+                .with(remoteAddress("10.0.0.19"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(request))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void shouldRehashLegacyPasswordOnLogin() throws Exception {
+        User user = new User();
+        user.setFirstName("Legacy");
+        user.setLastName("User");
+        user.setEmail("legacy-hash@example.com");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("password123"));
+        userRepository.save(user);
+
+        mockMvc.perform(post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    TestDataFactory.createAuthRequest("legacy-hash@example.com", "password123"))))
+                .andExpect(status().isOk());
+
+        String rehashed = userRepository.findByEmail("legacy-hash@example.com").orElseThrow().getPassword();
+        assertThat(rehashed).startsWith("{bcrypt}$2a$10$");
+
+        mockMvc.perform(post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    TestDataFactory.createAuthRequest("legacy-hash@example.com", "password123"))))
+                .andExpect(status().isOk());
+    }
+
+    private static RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
 }
@@ -4,12 +4,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import hexlet.code.dto.Label.LabelCreateDTO;
 import hexlet.code.dto.Label.LabelUpdateDTO;
+import hexlet.code.metrics.ServiceMetricsAspect;
 import hexlet.code.util.TestDataFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +25,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static hexlet.code.util.RequestBudget.statementsAtMost;
+import static hexlet.code.util.RequestBudget.withinBudget;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -32,6 +39,9 @@ class LabelControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void shouldCreateAndGetLabelById() throws Exception {
         LabelCreateDTO label = TestDataFactory.createValidLabel("Bug");
@@ -64,6 +74,18 @@ class LabelControllerTest {
                 .containsKey("id");
     }
 
+    @Test
+    void shouldServeLabelListWithoutStatements() throws Exception {
+        mockMvc.perform(get("/api/labels")
+                .with(jwt()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/labels")
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(0));
+    }
+
     @Test
     void shouldGetAllLabels() throws Exception {
         var label1 = TestDataFactory.createValidLabel("alpha-label");
@@ -83,6 +105,7 @@ class LabelControllerTest {
         String response = mockMvc.perform(get("/api/labels")
                 .with(jwt()))
                 .andExpect(status().isOk())
+                .andExpect(withinBudget())
                 .andReturn()
                 .getResponse()
                 .getContentAsString();
@@ -93,6 +116,41 @@ class LabelControllerTest {
                 .contains(label1.getName(), label2.getName());
     }
 
+    @Test
+    void shouldChangeLabelListETagAfterLabelIsCreated() throws Exception {
+        String etag = mockMvc.perform(get("/api/labels")
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/labels")
+                .with(jwt())
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        var label = TestDataFactory.createValidLabel("gamma-label");
+        mockMvc.perform(post("/api/labels")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(label)))
+                .andExpect(status().isCreated());
+
+        String response = mockMvc.perform(get("/api/labels")
+                .with(jwt())
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(response)
+                .inPath("$..name")
+                .isArray()
+                .contains(label.getName());
+    }
+
     @Test
     void shouldUpdateLabelSuccessfully() throws Exception {
         LabelCreateDTO label = TestDataFactory.createValidLabel("Bug");
@@ -259,4 +317,30 @@ class LabelControllerTest {
                 .content(objectMapper.writeValueAsString(updateLabel)))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void shouldRecordServiceTimersByOutcome() throws Exception {
+        long successes = labelTimerCount("success", "none");
+        long failures = labelTimerCount("error", "ResourceNotFoundException");
+
+        mockMvc.perform(get("/api/labels/" + Long.MAX_VALUE)
+                .with(jwt()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/labels/" + Long.MAX_VALUE)
+                .with(jwt()))
+                .andExpect(status().isNotFound());
+
+        assertThat(labelTimerCount("success", "none")).isEqualTo(successes);
+        assertThat(labelTimerCount("error", "ResourceNotFoundException")).isEqualTo(failures + 2);
+    }
+
+    private long labelTimerCount(String outcome, String exception) {
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.METRIC_NAME)
+                .tag("service", "LabelService")
+                .tag("method", "getLabelById")
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
 }
@@ -0,0 +1,32 @@
+package hexlet.code.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.hamcrest.Matchers.containsString;
+
+@SpringBootTest(properties = "request-metrics.server-timing=true")
+@AutoConfigureMockMvc
+@Transactional
+class ServerTimingControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldReportServerTimingWhenEnabled() throws Exception {
+        mockMvc.perform(get("/api/task_statuses/1")
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", containsString("db;desc=")))
+                .andExpect(header().string("Server-Timing", containsString("total;dur=")))
+                .andExpect(header().string("Trailer", "Server-Timing"));
+    }
+}
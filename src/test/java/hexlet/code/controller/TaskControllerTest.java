@@ -2,29 +2,48 @@ package hexlet.code.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import hexlet.code.dto.Task.TaskBulkAssigneeDTO;
 import hexlet.code.dto.Task.TaskCreateDTO;
 import hexlet.code.dto.Task.TaskUpdateDTO;
+import hexlet.code.util.SqlCaptor;
 import hexlet.code.util.TestDataFactory;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static hexlet.code.util.RequestBudget.statementsAtMost;
+import static hexlet.code.util.RequestBudget.withinBudget;
+import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=hexlet.code.util.SqlCaptor"
+})
 @AutoConfigureMockMvc
 @Transactional
 class TaskControllerTest {
@@ -34,6 +53,9 @@ class TaskControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void shouldCreateAndGetTaskById() throws Exception {
         TaskCreateDTO task = TestDataFactory.createValidTask("Test Task");
@@ -42,6 +64,7 @@ class TaskControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isCreated())
+                .andExpect(withinBudget())
                 .andReturn()
                 .getResponse()
                 .getContentAsString();
@@ -75,7 +98,8 @@ class TaskControllerTest {
     void shouldGetAllTasks() throws Exception {
         mockMvc.perform(get("/api/tasks")
                 .with(jwt()))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
     }
 
     @Test
@@ -100,6 +124,7 @@ class TaskControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateTask)))
                 .andExpect(status().isOk())
+                .andExpect(withinBudget())
                 .andReturn()
                 .getResponse()
                 .getContentAsString();
@@ -128,7 +153,8 @@ class TaskControllerTest {
 
         mockMvc.perform(delete("/api/tasks/" + taskId)
                 .with(jwt()))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent())
+                .andExpect(withinBudget());
     }
 
     @Test
@@ -209,17 +235,43 @@ class TaskControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldReturn404ForUnknownAssignee() throws Exception {
+        TaskCreateDTO task = TestDataFactory.createValidTask("Unknown Assignee Task");
+        task.setAssigneeId(999999L);
+
+        mockMvc.perform(post("/api/tasks")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isNotFound());
+
+        Long taskId = createTask("Known Assignee Task");
+        TaskUpdateDTO updateTask = new TaskUpdateDTO();
+        updateTask.setAssigneeId(999999L);
+
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateTask)))
+                .andExpect(status().isNotFound());
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {
         "titleCont=Test",
         "status=draft",
         "assigneeId=1",
-        "titleCont=Test&status=draft"
+        "titleCont=Test&status=draft",
+        "labelId=1",
+        "labelIds=1,2&labelMode=all",
+        "labelIds=1,2&labelMode=any"
     })
     void shouldGetFilteredTasks(String filter) throws Exception {
         mockMvc.perform(get("/api/tasks?" + filter)
                 .with(jwt()))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
     }
 
     @Test
@@ -284,4 +336,777 @@ class TaskControllerTest {
                 .node("taskLabelIds").isArray()
                 .contains(2, 3, 4);
     }
+
+    @Test
+    void shouldWriteOnlyChangedTaskLabelRows() throws Exception {
+        TaskCreateDTO task = TestDataFactory.createValidTask("Label Diff Task");
+        task.setTaskLabelIds(java.util.Set.of(1L, 2L));
+        String response = mockMvc.perform(post("/api/tasks")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        Long taskId = objectMapper.readTree(response).get("id").asLong();
+
+        TaskUpdateDTO updateTask = new TaskUpdateDTO();
+        updateTask.setTaskLabelIds(java.util.Set.of(2L, 3L, 4L));
+
+        List<String> changedWrites = captureTaskUpdateWrites(taskId, updateTask);
+        assertThat(changedWrites.stream().filter(sql -> sql.contains("task_labels")).distinct())
+                .containsExactlyInAnyOrder(
+                        "delete from task_labels where task_id=? and label_id=?",
+                        "insert into task_labels (task_id,label_id) values (?,?)");
+        assertThat(statistics().getCollectionRecreateCount()).isZero();
+
+        List<String> unchangedWrites = captureTaskUpdateWrites(taskId, updateTask);
+        assertThat(unchangedWrites).isEmpty();
+    }
+
+    @Test
+    void shouldPaginateTasksWithCursor() throws Exception {
+        for (String title : java.util.List.of("Paged Task 1", "Paged Task 2", "Paged Task 3")) {
+            mockMvc.perform(post("/api/tasks")
+                    .with(jwt())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(TestDataFactory.createValidTask(title))))
+                    .andExpect(status().isCreated());
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("titleCont", "Paged Task")
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "3"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+
+        assertThatJson(firstPage.getResponse().getContentAsString())
+                .isArray().hasSize(2);
+
+        String cursor = firstPage.getResponse().getHeader("X-Next-Cursor");
+
+        String secondPage = mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("titleCont", "Paged Task")
+                .param("limit", "2")
+                .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "3"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(secondPage)
+                .isArray().hasSize(1);
+        assertThatJson(secondPage)
+                .node("[0].title").isEqualTo("Paged Task 3");
+    }
+
+    @Test
+    void shouldReturn400ForInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldListTasksWithFixedNumberOfQueries() throws Exception {
+        createTasks("Fetch Plan Task", 2);
+        long fewTasksQueries = countTaskListQueries();
+
+        createTasks("Fetch Plan Task", 8);
+        long manyTasksQueries = countTaskListQueries();
+
+        assertThat(manyTasksQueries).isEqualTo(fewTasksQueries);
+    }
+
+    @Test
+    void shouldListManyTasksWithinStatementBudget() throws Exception {
+        createTasks("Budget Task", 12);
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/api/tasks")
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void shouldSearchTasksByTitleAndContent() throws Exception {
+        TaskCreateDTO report = TestDataFactory.createValidTask("Quarterly report");
+        report.setContent("Prepare revenue figures");
+        TaskCreateDTO regression = TestDataFactory.createValidTask("Fix login page");
+        regression.setContent("Quarterly regression in auth");
+        TaskCreateDTO unrelated = TestDataFactory.createValidTask("Unrelated task");
+        unrelated.setContent("Nothing to see here");
+
+        for (TaskCreateDTO task : java.util.List.of(report, regression, unrelated)) {
+            mockMvc.perform(post("/api/tasks")
+                    .with(jwt())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(task)))
+                    .andExpect(status().isCreated());
+        }
+
+        String response = mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("search", "quarterly"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(response)
+                .node("[0].title").isEqualTo("Quarterly report");
+        assertThatJson(response)
+                .node("[1].title").isEqualTo("Fix login page");
+
+        String prefixResponse = mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("search", "quart reven"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(prefixResponse)
+                .isArray().hasSize(1);
+        assertThatJson(prefixResponse)
+                .node("[0].title").isEqualTo("Quarterly report");
+    }
+
+    @Test
+    void shouldPageSearchResultsInRankOrder() throws Exception {
+        TaskCreateDTO regression = TestDataFactory.createValidTask("Fix login page");
+        regression.setContent("Quarterly regression in auth");
+        TaskCreateDTO report = TestDataFactory.createValidTask("Quarterly report");
+        report.setContent("Prepare revenue figures");
+        for (TaskCreateDTO task : List.of(regression, report)) {
+            mockMvc.perform(post("/api/tasks")
+                    .with(jwt())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(task)))
+                    .andExpect(status().isCreated());
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("search", "quarterly")
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+        assertThatJson(firstPage.getResponse().getContentAsString())
+                .node("[0].title").isEqualTo("Quarterly report");
+
+        String secondPage = mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("search", "quarterly")
+                .param("limit", "1")
+                .param("cursor", firstPage.getResponse().getHeader("X-Next-Cursor")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThatJson(secondPage)
+                .node("[0].title").isEqualTo("Fix login page");
+    }
+
+    @Test
+    void shouldApplyFiltersToEverySearchMatch() throws Exception {
+        List<TaskCreateDTO> batch = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            batch.add(TestDataFactory.createValidTask("Haystack needle " + i));
+        }
+        mockMvc.perform(post("/api/tasks/batch")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk());
+        Long published = createTask("Haystack needle published", "published");
+
+        String response = mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("search", "needle")
+                .param("status", "published"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget())
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThatJson(response).node("[0].id").isEqualTo(published);
+    }
+
+    @Test
+    void shouldFilterTasksByMultipleLabels() throws Exception {
+        TaskCreateDTO bugAndFeature = TestDataFactory.createValidTask("Multi Label Task A");
+        bugAndFeature.setTaskLabelIds(java.util.Set.of(1L, 2L));
+        TaskCreateDTO featureOnly = TestDataFactory.createValidTask("Multi Label Task B");
+        featureOnly.setTaskLabelIds(java.util.Set.of(2L, 3L));
+
+        for (TaskCreateDTO task : java.util.List.of(bugAndFeature, featureOnly)) {
+            mockMvc.perform(post("/api/tasks")
+                    .with(jwt())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(task)))
+                    .andExpect(status().isCreated());
+        }
+
+        String allResponse = mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("titleCont", "Multi Label Task")
+                .param("labelIds", "1,2")
+                .param("labelMode", "all"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(allResponse)
+                .isArray().hasSize(1);
+        assertThatJson(allResponse)
+                .node("[0].title").isEqualTo("Multi Label Task A");
+
+        mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("titleCont", "Multi Label Task")
+                .param("labelIds", "1,2,3")
+                .param("labelMode", "any"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"));
+
+        mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("labelIds", "1")
+                .param("labelMode", "some"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldNotServeCachedListAfterTaskWrite() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("titleCont", "Cached Task"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "0"));
+
+        createTasks("Cached Task", 1);
+
+        mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("titleCont", "Cached Task"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"));
+    }
+
+    @Test
+    void shouldCreateTasksInBatchWithPerItemErrors() throws Exception {
+        TaskCreateDTO first = TestDataFactory.createValidTask("Batch Task 1");
+        TaskCreateDTO second = TestDataFactory.createValidTask("Batch Task 2");
+        second.setAssigneeId(null);
+        TaskCreateDTO withoutTitle = TestDataFactory.createValidTask("");
+        TaskCreateDTO unknownStatus = TestDataFactory.createValidTask("Batch Task 3");
+        unknownStatus.setStatus("no_such_status");
+
+        String response = mockMvc.perform(post("/api/tasks/batch")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    java.util.List.of(first, second, withoutTitle, unknownStatus))))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(response)
+                .isObject()
+                .containsEntry("created", 2)
+                .containsEntry("failed", 2);
+        assertThatJson(response)
+                .node("items[0].task.title").isEqualTo("Batch Task 1");
+        assertThatJson(response)
+                .node("items[1].task.assignee_id").isNull();
+        assertThatJson(response)
+                .node("items[2].error").isString().contains("title");
+        assertThatJson(response)
+                .node("items[3].error").isEqualTo("TaskStatus not found with slug: no_such_status");
+
+        mockMvc.perform(get("/api/tasks")
+                .with(jwt())
+                .param("titleCont", "Batch Task"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"));
+    }
+
+    @Test
+    void shouldResolveTaskReferencesWithBoundedRoundTrips() throws Exception {
+        TaskCreateDTO task = TestDataFactory.createValidTask("Round Trip Task");
+        task.setTaskLabelIds(java.util.Set.of(1L, 2L, 3L, 4L, 5L));
+
+        entityManager.flush();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/api/tasks")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated())
+                .andExpect(statementsAtMost(7));
+        entityManager.flush();
+
+        // assignee check, one batched load each for the status and label references, rank lookup,
+        // task insert, task_labels batch and at most one sequence call
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7);
+    }
+
+    @Test
+    void shouldReportMissingLabelIds() throws Exception {
+        TaskCreateDTO task = TestDataFactory.createValidTask("Missing Labels Task");
+        task.setTaskLabelIds(java.util.Set.of(1L, 998L, 999L));
+
+        String response = mockMvc.perform(post("/api/tasks")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isNotFound())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(response)
+                .node("message").isString()
+                .startsWith("Label not found with ids:")
+                .contains("998")
+                .contains("999");
+    }
+
+    @Test
+    void shouldReturnNotModifiedForUnchangedTask() throws Exception {
+        Long taskId = createTask("ETag Task");
+
+        String etag = mockMvc.perform(get("/api/tasks/" + taskId)
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/tasks/" + taskId)
+                .with(jwt())
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldRejectUpdateWithStaleIfMatch() throws Exception {
+        Long taskId = createTask("Versioned Task");
+        String etag = mockMvc.perform(get("/api/tasks/" + taskId)
+                .with(jwt()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        TaskUpdateDTO updateTask = new TaskUpdateDTO();
+        updateTask.setTitle("First Edit");
+        String newEtag = mockMvc.perform(put("/api/tasks/" + taskId)
+                .with(jwt())
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateTask)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        assertThat(newEtag).isNotEqualTo(etag);
+
+        updateTask.setTitle("Second Edit");
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                .with(jwt())
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateTask)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void shouldRejectUpdateWithWeakIfMatch() throws Exception {
+        Long taskId = createTask("Weak Versioned Task");
+        String etag = mockMvc.perform(get("/api/tasks/" + taskId)
+                .with(jwt()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        TaskUpdateDTO updateTask = new TaskUpdateDTO();
+        updateTask.setTitle("Weak Edit");
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                .with(jwt())
+                .header(HttpHeaders.IF_MATCH, "W/" + etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateTask)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void shouldMoveTasksToStatusInBulkWithConstantQueries() throws Exception {
+        createTasks("Bulk Move", 5);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        String response = mockMvc.perform(patch("/api/tasks/bulk/status")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"filter\": {\"titleCont\": \"Bulk Move\"}, \"status\": \"published\"}"))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(3))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(response).isObject().containsEntry("affected", 5);
+        // id selection, rank lookup and one UPDATE that sets the status and every new rank
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+
+        mockMvc.perform(get("/api/tasks")
+                .param("titleCont", "Bulk Move")
+                .param("status", "published")
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "5"));
+    }
+
+    @Test
+    void shouldAppendTasksMovedInBulkToTargetColumn() throws Exception {
+        Long firstPublished = createTask("Column Published 1", "published");
+        Long secondPublished = createTask("Column Published 2", "published");
+        Long firstMoved = createTask("Column Moved 1");
+        Long secondMoved = createTask("Column Moved 2");
+
+        mockMvc.perform(patch("/api/tasks/bulk/status")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"filter\": {\"titleCont\": \"Column Moved\"}, \"status\": \"published\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(boardOrder("published", "Column"))
+                .containsExactly(firstPublished, secondPublished, firstMoved, secondMoved);
+    }
+
+    @Test
+    void shouldReassignTasksInBulkByIds() throws Exception {
+        Long firstTaskId = createTask("Reassigned Task 1");
+        Long secondTaskId = createTask("Reassigned Task 2");
+        String userResponse = mockMvc.perform(post("/api/users")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TestDataFactory.createValidUser("bulk@example.com"))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        Long userId = objectMapper.readTree(userResponse).get("id").asLong();
+
+        TaskBulkAssigneeDTO bulkAssignee = new TaskBulkAssigneeDTO();
+        bulkAssignee.setIds(java.util.Set.of(firstTaskId, secondTaskId, 999999L));
+        bulkAssignee.setAssigneeId(userId);
+
+        String response = mockMvc.perform(patch("/api/tasks/bulk/assignee")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(bulkAssignee)))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(response).isObject().containsEntry("affected", 2);
+
+        mockMvc.perform(get("/api/tasks?assigneeId=" + userId)
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"));
+
+        bulkAssignee.setIds(null);
+        mockMvc.perform(patch("/api/tasks/bulk/assignee")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(bulkAssignee)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldDeleteTasksInBulkByFilter() throws Exception {
+        createTasks("Old Draft", 3);
+        createTask("Fresh Task");
+
+        String response = mockMvc.perform(post("/api/tasks/bulk/delete")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"titleCont\": \"Old Draft\"}"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(response)
+                .isObject()
+                .containsEntry("status", "COMPLETED")
+                .containsEntry("deleted", 3)
+                .containsEntry("chunks", 1);
+
+        String jobId = objectMapper.readTree(response).get("id").asText();
+        mockMvc.perform(get("/api/tasks/bulk/delete/" + jobId)
+                .with(jwt()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks")
+                .param("titleCont", "Old Draft")
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "0"));
+
+        mockMvc.perform(get("/api/tasks")
+                .param("titleCont", "Fresh Task")
+                .with(jwt()))
+                .andExpect(header().string("X-Total-Count", "1"));
+    }
+
+    @Test
+    void shouldBulkDeleteEverySearchMatch() throws Exception {
+        List<TaskCreateDTO> batch = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            batch.add(TestDataFactory.createValidTask("Stale needle " + i));
+        }
+        mockMvc.perform(post("/api/tasks/batch")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk());
+        createTask("Stale needle extra");
+
+        String response = mockMvc.perform(post("/api/tasks/bulk/delete")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"search\": \"needle\"}"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(response)
+                .isObject()
+                .containsEntry("status", "COMPLETED")
+                .containsEntry("deleted", 1001);
+        mockMvc.perform(get("/api/tasks")
+                .param("search", "needle")
+                .with(jwt()))
+                .andExpect(header().string("X-Total-Count", "0"));
+    }
+
+    @Test
+    void shouldRejectBulkUpdateWithEmptyFilter() throws Exception {
+        mockMvc.perform(patch("/api/tasks/bulk/status")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"filter\": {}, \"status\": \"published\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/api/tasks/bulk/assignee")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"filter\": {\"titleCont\": \" \"}, \"assigneeId\": 1}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectBulkDeleteWithoutCriteria() throws Exception {
+        mockMvc.perform(post("/api/tasks/bulk/delete")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/tasks/bulk/delete/unknown")
+                .with(jwt()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldReplayTaskCreationForRepeatedIdempotencyKey() throws Exception {
+        String idempotencyKey = java.util.UUID.randomUUID().toString();
+        TaskCreateDTO task = TestDataFactory.createValidTask("Idempotent Task");
+
+        String firstResponse = mockMvc.perform(post("/api/tasks")
+                .with(jwt())
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String retryResponse = mockMvc.perform(post("/api/tasks")
+                .with(jwt())
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(retryResponse).isEqualTo(firstResponse);
+
+        mockMvc.perform(get("/api/tasks")
+                .param("titleCont", "Idempotent Task")
+                .with(jwt()))
+                .andExpect(header().string("X-Total-Count", "1"));
+
+        task.setTitle("Another Task");
+        mockMvc.perform(post("/api/tasks")
+                .with(jwt())
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void shouldMoveTaskBetweenNeighboursWithSingleUpdate() throws Exception {
+        Long first = createTask("Move First");
+        Long second = createTask("Move Second");
+        Long third = createTask("Move Third");
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlCaptor.start();
+        mockMvc.perform(post("/api/tasks/" + third + "/move")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"beforeId\": " + first + ", \"afterId\": " + second + "}"))
+                .andExpect(status().isOk());
+        List<String> writes = SqlCaptor.writes(SqlCaptor.stop());
+
+        assertThat(writes).hasSize(1);
+        assertThat(writes.get(0)).startsWith("update tasks");
+        assertThat(boardOrder("Move")).containsExactly(first, third, second);
+
+        mockMvc.perform(post("/api/tasks/" + first + "/move")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isOk());
+        assertThat(boardOrder("Move")).containsExactly(third, second, first);
+
+        mockMvc.perform(post("/api/tasks/" + second + "/move")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"beforeId\": " + first + ", \"afterId\": " + third + "}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Long> boardOrder(String titleCont) throws Exception {
+        return boardOrder("draft", titleCont);
+    }
+
+    private List<Long> boardOrder(String status, String titleCont) throws Exception {
+        String response = mockMvc.perform(get("/api/tasks")
+                .param("status", status)
+                .param("titleCont", titleCont)
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<Long> ids = new java.util.ArrayList<>();
+        objectMapper.readTree(response).forEach(task -> ids.add(task.get("id").asLong()));
+        return ids;
+    }
+
+    private List<String> captureTaskUpdateWrites(Long taskId, TaskUpdateDTO updateTask) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+
+        SqlCaptor.start();
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateTask)))
+                .andExpect(status().isOk());
+        entityManager.flush();
+        return SqlCaptor.writes(SqlCaptor.stop());
+    }
+
+    private Long createTask(String title) throws Exception {
+        return createTask(title, "draft");
+    }
+
+    private Long createTask(String title, String status) throws Exception {
+        TaskCreateDTO task = TestDataFactory.createValidTask(title);
+        task.setStatus(status);
+        String response = mockMvc.perform(post("/api/tasks")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private void createTasks(String title, int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            mockMvc.perform(post("/api/tasks")
+                    .with(jwt())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(TestDataFactory.createValidTask(title + " " + i))))
+                    .andExpect(status().isCreated());
+        }
+    }
+
+    private long countTaskListQueries() throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/tasks")
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
 }
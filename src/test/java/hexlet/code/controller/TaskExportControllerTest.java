@@ -0,0 +1,96 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.Task.TaskCreateDTO;
+import hexlet.code.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// the export streams from an async thread, which cannot see uncommitted test data
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskExportControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void deleteExportTasks() throws Exception {
+        mockMvc.perform(post("/api/tasks/bulk/delete")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"titleCont\": \"Export Task\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldStreamTaskExportAsNdjson() throws Exception {
+        Long firstId = createTask("Export Task 1", "to_publish");
+        Long secondId = createTask("Export Task 2", "to_publish");
+        createTask("Export Task 3", "draft");
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export")
+                .with(jwt())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .param("titleCont", "Export Task")
+                .param("status", "to_publish"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThatJson(lines[0])
+                .isObject()
+                .containsEntry("title", "Export Task 1")
+                .containsEntry("content", "Test content")
+                .containsEntry("status", "to_publish")
+                .containsEntry("assignee_id", 1)
+                .node("taskLabelIds").isArray().hasSize(2);
+        assertThatJson(lines[0]).node("id").isEqualTo(firstId);
+        assertThatJson(lines[1])
+                .isObject()
+                .containsEntry("title", "Export Task 2")
+                .containsEntry("status", "to_publish");
+        assertThatJson(lines[1]).node("id").isEqualTo(secondId);
+    }
+
+    private Long createTask(String title, String status) throws Exception {
+        TaskCreateDTO task = TestDataFactory.createValidTask(title);
+        task.setStatus(status);
+        String response = mockMvc.perform(post("/api/tasks")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+}
@@ -10,17 +10,24 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static hexlet.code.util.RequestBudget.statementsAtMost;
+import static hexlet.code.util.RequestBudget.withinBudget;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -53,9 +60,42 @@ class TaskStatusControllerTest {
 
     @Test
     void shouldGetAllTaskStatuses() throws Exception {
+        mockMvc.perform(get("/api/task_statuses")
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void shouldServeTaskStatusListWithoutStatements() throws Exception {
         mockMvc.perform(get("/api/task_statuses")
                 .with(jwt()))
                 .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/task_statuses")
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(0));
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenTaskStatusListIsUnchanged() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/task_statuses")
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Total-Count"))
+                .andReturn()
+                .getResponse();
+
+        assertThatJson(response.getContentAsString(StandardCharsets.UTF_8))
+                .inPath("$..slug")
+                .isArray()
+                .contains("draft");
+
+        mockMvc.perform(get("/api/task_statuses")
+                .with(jwt())
+                .header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
     }
 
     @Test
@@ -220,4 +260,12 @@ class TaskStatusControllerTest {
                 .content(objectMapper.writeValueAsString(taskStatus)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void shouldOmitServerTimingByDefault() throws Exception {
+        mockMvc.perform(get("/api/task_statuses/1")
+                .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Server-Timing"));
+    }
 }
@@ -4,25 +4,41 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import hexlet.code.dto.User.UserCreateDTO;
 import hexlet.code.dto.User.UserUpdateDTO;
+import hexlet.code.util.SqlCaptor;
 import hexlet.code.util.TestDataFactory;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static hexlet.code.util.RequestBudget.withinBudget;
+import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=hexlet.code.util.SqlCaptor"
+})
 @AutoConfigureMockMvc
 @Transactional
 class UserControllerTest {
@@ -32,6 +48,9 @@ class UserControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JwtEncoder jwtEncoder;
+
     @Test
     void shouldCreateAndGetUserById() throws Exception {
         UserCreateDTO user = TestDataFactory.createValidUser("test@example.com");
@@ -64,11 +83,41 @@ class UserControllerTest {
                 .containsEntry("email", "test@example.com");
     }
 
+    @Test
+    void shouldReplayUserCreationForRepeatedIdempotencyKey() throws Exception {
+        UserCreateDTO user = TestDataFactory.createValidUser("idempotent@example.com");
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        String firstResponse = mockMvc.perform(post("/api/users")
+                .with(jwt())
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(user)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String retryResponse = mockMvc.perform(post("/api/users")
+                .with(jwt())
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(user)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThatJson(retryResponse).isEqualTo(firstResponse);
+    }
+
     @Test
     void shouldGetAllUsers() throws Exception {
         mockMvc.perform(get("/api/users")
                 .with(jwt()))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
     }
 
     @Test
@@ -192,4 +241,68 @@ class UserControllerTest {
                 .content(objectMapper.writeValueAsString(user)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void shouldAuthorizeUserChangesFromTokenWithoutQueries() throws Exception {
+        Long ownerId = createUser("owner@example.com");
+        Long otherId = createUser("other@example.com");
+        String token = login("owner@example.com");
+        UserUpdateDTO updateUser = TestDataFactory.createValidUserUpdate("Jane", "Smith");
+
+        SqlCaptor.start();
+        mockMvc.perform(put("/api/users/" + otherId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateUser)))
+                .andExpect(status().isForbidden());
+        List<String> statements = SqlCaptor.stop();
+
+        assertThat(statements).isEmpty();
+
+        mockMvc.perform(put("/api/users/" + ownerId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateUser)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldAuthorizeTokenIssuedWithoutUserIdClaim() throws Exception {
+        Long userId = createUser("legacy@example.com");
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("self")
+                .subject("legacy@example.com")
+                .issuedAt(now)
+                .expiresAt(now.plus(1, ChronoUnit.HOURS))
+                .build();
+        String token = jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+
+        mockMvc.perform(delete("/api/users/" + userId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isNoContent());
+    }
+
+    private Long createUser(String email) throws Exception {
+        String response = mockMvc.perform(post("/api/users")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TestDataFactory.createValidUser(email))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private String login(String email) throws Exception {
+        return mockMvc.perform(post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TestDataFactory.createAuthRequest(email, "password123"))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
 }
@@ -0,0 +1,53 @@
+package hexlet.code.util;
+
+import hexlet.code.metrics.RequestMetrics;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Counts every statement execution and batch flush Hibernate performs, so a reused or batched
+// PreparedStatement is counted once per round trip. Plain JdbcTemplate calls bypass Hibernate and are not counted.
+public final class RequestBudget {
+    private static final int DEFAULT_STATEMENT_BUDGET = 15;
+    private static final Map<String, Integer> STATEMENT_BUDGETS = Map.of(
+        "GET /api/tasks", 8,
+        "GET /api/tasks/{id}", 8,
+        "GET /api/users", 3,
+        "GET /api/users/{id}", 3,
+        "GET /api/labels", 3,
+        "GET /api/labels/{id}", 3,
+        "GET /api/task_statuses", 3,
+        "GET /api/task_statuses/{id}", 3);
+
+    private RequestBudget() {
+    }
+
+    public static ResultMatcher withinBudget() {
+        return result -> {
+            String endpoint = endpoint(result);
+            assertStatements(result, endpoint, STATEMENT_BUDGETS.getOrDefault(endpoint, DEFAULT_STATEMENT_BUDGET));
+        };
+    }
+
+    public static ResultMatcher statementsAtMost(int budget) {
+        return result -> assertStatements(result, endpoint(result), budget);
+    }
+
+    private static void assertStatements(MvcResult result, String endpoint, int budget) {
+        RequestMetrics metrics = (RequestMetrics) result.getRequest().getAttribute(RequestMetrics.ATTRIBUTE);
+        assertThat(metrics).as("request metrics for %s", endpoint).isNotNull();
+        assertThat(metrics.getStatements())
+            .as("JDBC statements for %s", endpoint)
+            .isLessThanOrEqualTo(budget);
+    }
+
+    private static String endpoint(MvcResult result) {
+        Object pattern = result.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return result.getRequest().getMethod() + " "
+            + (pattern == null ? result.getRequest().getRequestURI() : pattern);
+    }
+}
@@ -0,0 +1,37 @@
+package hexlet.code.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class SqlCaptor implements StatementInspector {
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+    private static volatile boolean capturing;
+
+    @Override
+    public String inspect(String sql) {
+        if (capturing) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    public static void start() {
+        STATEMENTS.clear();
+        capturing = true;
+    }
+
+    public static List<String> stop() {
+        capturing = false;
+        List<String> statements = List.copyOf(STATEMENTS);
+        STATEMENTS.clear();
+        return statements;
+    }
+
+    public static List<String> writes(List<String> statements) {
+        return statements.stream()
+                .filter(sql -> !sql.stripLeading().toLowerCase().startsWith("select"))
+                .toList();
+    }
+}